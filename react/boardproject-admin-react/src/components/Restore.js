@@ -4,15 +4,22 @@ import { axiosApi } from "./../api/axiosAPI";
 export default function Restore() {
   const [withdrawnMembers, setWithdrawnMembers] = useState([]); // 탈퇴회원목록
   const [deleteBoards, setDeleteBoards] = useState([]); // 삭제게시글목록
+  const [memberNext, setMemberNext] = useState(null); // 탈퇴회원목록 다음 페이지 커서
+  const [boardNext, setBoardNext] = useState(null); // 삭제게시글목록 다음 페이지 커서
   const [loading, setLoading] = useState(true); // 로딩 상태
 
   // 탈퇴한 회원 목록 조회용 비동기 요청 함수
-  const getWithdrawnMemberList = async () => {
+  // cursor가 없으면 첫 페이지 조회, 있으면 다음 페이지를 이어 붙임
+  const getWithdrawnMemberList = async (cursor = null) => {
     try {
-      const resp = await axiosApi.get("/admin/withdrawnMemberList");
+      const resp = await axiosApi.get("/admin/withdrawnMemberList", {
+        params: { cursor },
+      });
 
       if (resp.status === 200) {
-        setWithdrawnMembers(resp.data);
+        const { list, next } = resp.data;
+        setWithdrawnMembers((prev) => (cursor ? [...prev, ...list] : list));
+        setMemberNext(next);
       }
     } catch (error) {
       console.log("탈퇴회원 목록조회 중 에러 발생 : " + error);
@@ -42,11 +49,16 @@ export default function Restore() {
   };
 
   // 삭제된 게시글 목록 조회용 비동기 요청 함수
-  const getDeleteBoardList = async () => {
+  // cursor가 없으면 첫 페이지 조회, 있으면 다음 페이지를 이어 붙임
+  const getDeleteBoardList = async (cursor = null) => {
     try {
-      const resp = await axiosApi.get("/admin/deleteBoardList");
+      const resp = await axiosApi.get("/admin/deleteBoardList", {
+        params: { cursor },
+      });
       if (resp.status === 200) {
-        setDeleteBoards(resp.data);
+        const { list, next } = resp.data;
+        setDeleteBoards((prev) => (cursor ? [...prev, ...list] : list));
+        setBoardNext(next);
         //console.log(resp.data);
       }
     } catch (error) {
@@ -113,14 +125,19 @@ export default function Restore() {
         <RestoreMember
           withdrawnMembers={withdrawnMembers}
           restoreMember={restoreMember}
+          loadMore={memberNext ? () => getWithdrawnMemberList(memberNext) : null}
+        />
+        <RestoreBoard
+          deleteBoards={deleteBoards}
+          restoreBoard={restoreBoard}
+          loadMore={boardNext ? () => getDeleteBoardList(boardNext) : null}
         />
-        <RestoreBoard deleteBoards={deleteBoards} restoreBoard={restoreBoard} />
       </div>
     );
   }
 }
 
-const RestoreMember = ({ withdrawnMembers, restoreMember }) => {
+const RestoreMember = ({ withdrawnMembers, restoreMember, loadMore }) => {
   return (
     <section className="section-border">
       <h2>탈퇴 회원 복구</h2>
@@ -146,11 +163,14 @@ const RestoreMember = ({ withdrawnMembers, restoreMember }) => {
           );
         })
       )}
+
+      {/* 다음 페이지가 있을 때만 더보기 버튼 표시 */}
+      {loadMore && <button onClick={loadMore}>더보기</button>}
     </section>
   );
 };
 
-const RestoreBoard = ({ deleteBoards, restoreBoard }) => {
+const RestoreBoard = ({ deleteBoards, restoreBoard, loadMore }) => {
   return (
     <section className="section-border">
       <h2>삭제 게시글 복구</h2>
@@ -177,6 +197,9 @@ const RestoreBoard = ({ deleteBoards, restoreBoard }) => {
           );
         })
       )}
+
+      {/* 다음 페이지가 있을 때만 더보기 버튼 표시 */}
+      {loadMore && <button onClick={loadMore}>더보기</button>}
     </section>
   );
 };
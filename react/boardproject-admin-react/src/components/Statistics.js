@@ -5,45 +5,30 @@ export default function Statistics() {
   const [readCountData, setReadCountData] = useState(null);
   const [likeCountData, setLikeCountData] = useState(null);
   const [commentCountData, setCommentCountData] = useState(null);
+  const [newMembers, setNewMembers] = useState([]);
   const [isLoading, setIsLoading] = useState(true);
 
-  // 최대 조회 수 게시글 조회
-  const getMaxReadCount = async () => {
-    try {
-      const response = await axiosApi.get("/admin/maxReadCount");
-      setReadCountData(response.data); // 서버에서 받은 데이터로 상태 업데이트
-    } catch (error) {
-      console.error("최대 조회 수 게시글 조회 중 에러:", error);
-    }
-  };
-
-  // 최대 좋아요 수 게시글 조회
-  const getMaxLikeCount = async () => {
-    try {
-      const response = await axiosApi.get("/admin/maxLikeCount");
-      setLikeCountData(response.data); // 서버에서 받은 데이터로 상태 업데이트
-    } catch (error) {
-      console.error("최대 좋아요 수 게시글 조회 중 에러:", error);
-    }
-  };
-
-  // 최대 댓글 수 게시글 조회
-  const getCommentCount = async () => {
+  // 통계 통합 조회 (최대 조회/좋아요/댓글 수 게시글 + 신규 가입 회원)
+  // -> 요청 한 번으로 모든 통계를 받아옴
+  const getStatistics = async () => {
     try {
-      const response = await axiosApi.get("/admin/maxCommentCount");
-      setCommentCountData(response.data); // 서버에서 받은 데이터로 상태 업데이트
+      const response = await axiosApi.get("/admin/statistics");
+      const data = response.data;
+
+      // 제한 시간 안에 조회하지 못한 항목은 null 이므로 빈 객체/배열로 대체
+      setReadCountData(data.maxReadCount ?? {});
+      setLikeCountData(data.maxLikeCount ?? {});
+      setCommentCountData(data.maxCommentCount ?? {});
+      setNewMembers(data.newMembers ?? []);
     } catch (error) {
-      console.error("최대 댓글 수 게시글 조회 중 에러:", error);
+      console.error("통계 조회 중 에러:", error);
     }
   };
 
-
   // - Statistics 컴포넌트가 처음 렌더링될 때 콜백함수 내용 수행 
-  // -> getMaxReadCount,getMaxLikeCount,getCommentCount 함수 실행
+  // -> getStatistics 함수 실행
   useEffect(() => {
-    getMaxReadCount();
-    getMaxLikeCount();
-    getCommentCount();
+    getStatistics();
   }, []);
 
   // readCountData, likeCountData, commentCountData에 변화가 감지될 때 콜백함수 내용 수행
@@ -64,7 +49,7 @@ export default function Statistics() {
 
     return (
       <div>
-        <NewMembers />
+        <NewMembers newMembers={newMembers} />
         <section className="statistics-section">
           <h2>가장 조회수 많은 게시글</h2>
           <p>게시판 종류 : {readCountData.boardName}</p>
@@ -93,27 +78,8 @@ export default function Statistics() {
   }
 }
 
-// 신규 회원 조회
-const NewMembers = () => {
-  const [newMembers, setNewMembers] = useState([]);
-
-  useEffect(() => {
-    const fetchNewMembers = async () => {
-      try {
-        const response = await axiosApi.get("/admin/newMember");
-
-        if(response.status === 200) {
-          setNewMembers(response.data);
-        }
-
-      } catch (error) {
-        console.error("신규 가입 회원 조회 중 에러 발생:", error);
-      } 
-    };
-
-    fetchNewMembers();
-  }, []);
-
+// 신규 회원 조회 (통계 통합 조회 결과를 props로 전달받음)
+const NewMembers = ({ newMembers }) => {
   return (
     <div className="new-members">
       <h2>신규 가입 회원 ({newMembers.length}명)</h2>
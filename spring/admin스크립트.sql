@@ -99,3 +99,83 @@ CREATE TABLE "TB_REFRESH_TOKEN" (
 	REFERENCES "MEMBER" ("MEMBER_NO") 
 	ON DELETE CASCADE
 );
+
+
+-------------------------------------
+
+-- Refresh Token 해시 컬럼 추가 (마이그레이션)
+-- 500자 REFRESH_TOKEN 컬럼 대신 고정 길이 SHA-256 해시값으로 조회하기 위함
+ALTER TABLE "TB_REFRESH_TOKEN" ADD ("REFRESH_TOKEN_HASH" CHAR(64));
+
+-- 기존 토큰 해시값 채우기 (Java의 Utility.hashToken()과 동일한 대문자 16진수 형식)
+UPDATE "TB_REFRESH_TOKEN" SET
+REFRESH_TOKEN_HASH = RAWTOHEX(STANDARD_HASH(REFRESH_TOKEN, 'SHA256'));
+
+COMMIT;
+
+ALTER TABLE "TB_REFRESH_TOKEN" MODIFY ("REFRESH_TOKEN_HASH" NOT NULL);
+
+-- 해시값 유니크 인덱스 (matchRefreshToken 조회용)
+CREATE UNIQUE INDEX "UQ_REFRESH_TOKEN_HASH" ON "TB_REFRESH_TOKEN" ("REFRESH_TOKEN_HASH");
+
+
+-------------------------------------
+
+-- 탈퇴 회원 / 삭제 게시글 목록 키셋 페이지네이션용 인덱스
+-- (WHERE ..._DEL_FL = 'Y' AND ..._NO < :cursor ORDER BY ..._NO DESC FETCH FIRST n ROWS ONLY)
+CREATE INDEX "IDX_MEMBER_DEL_NO" ON "MEMBER" ("MEMBER_DEL_FL", "MEMBER_NO");
+CREATE INDEX "IDX_BOARD_DEL_NO" ON "BOARD" ("BOARD_DEL_FL", "BOARD_NO");
+
+-- 삭제 게시글 목록 필터(게시판 종류, 작성일)용 인덱스
+CREATE INDEX "IDX_BOARD_DEL_CODE_NO" ON "BOARD" ("BOARD_DEL_FL", "BOARD_CODE", "BOARD_NO");
+CREATE INDEX "IDX_BOARD_DEL_DATE" ON "BOARD" ("BOARD_DEL_FL", "BOARD_WRITE_DATE");
+
+
+-------------------------------------
+
+-- 일별 회원 통계 집계 테이블
+-- 지난 날짜는 하루가 끝난 뒤 한 번만 저장되고, 조회 API는 이 집계값(메모리)만 사용
+CREATE TABLE "TB_MEMBER_DAILY_STAT" (
+    "STAT_DATE" DATE PRIMARY KEY,
+    "SIGNUP_COUNT" NUMBER DEFAULT 0 NOT NULL,
+    "WITHDRAWN_COUNT" NUMBER,  -- 전날 대비 탈퇴 상태 회원 증감
+    "ACTIVE_COUNT" NUMBER,     -- 해당 날짜 종료 시점 활동 회원 수
+    "WITHDRAWN_TOTAL" NUMBER   -- 해당 날짜 종료 시점 탈퇴 상태 회원 수
+);
+
+-- 일별 가입 회원 수 / 신규 가입 회원 조회용 인덱스
+CREATE INDEX "IDX_MEMBER_ENROLL" ON "MEMBER" ("ENROLL_DATE");
+
+-- 현재 회원 수 집계용 인덱스 (테이블을 읽지 않고 인덱스만으로 계산)
+CREATE INDEX "IDX_MEMBER_AUTH_DEL_ENROLL" ON "MEMBER" ("AUTHORITY", "MEMBER_DEL_FL", "ENROLL_DATE");
+
+
+-------------------------------------
+
+-- 만료 리프레시 토큰 chunk 삭제용 인덱스
+-- (DELETE ... WHERE EXPIRATION_DATE < :now AND ROWNUM <= :limit)
+CREATE INDEX "IDX_REFRESH_TOKEN_EXP" ON "TB_REFRESH_TOKEN" ("EXPIRATION_DATE");
+
+
+-------------------------------------
+
+-- 관리자 작업 감사 로그 테이블
+-- 복구/계정 발급/로그인/로그아웃 처리 후 AuditLogger 가 모아서 JDBC 배치로 저장
+-- 감사 로그는 일괄 INSERT 하므로 번호를 미리 할당해 두고 사용 (중간 번호가 비어도 무관)
+CREATE SEQUENCE "SEQ_AUDIT_NO" CACHE 100;
+
+CREATE TABLE "TB_ADMIN_AUDIT_LOG" (
+    "AUDIT_NO" NUMBER PRIMARY KEY,
+    "EVENT_TIME" TIMESTAMP NOT NULL,
+    "ACTOR_EMAIL" NVARCHAR2(50),        -- 작업한 관리자 (로그인 실패 시 입력된 이메일)
+    "ACTION" VARCHAR2(30) NOT NULL,     -- RESTORE_MEMBER, RESTORE_BOARD, CREATE_ADMIN_ACCOUNT, LOGIN, LOGOUT 등
+    "TARGET_TYPE" VARCHAR2(20),         -- MEMBER, BOARD
+    "TARGET_ID" NVARCHAR2(50),          -- 대상 번호/이메일 (일괄 복구는 NULL)
+    "RESULT" VARCHAR2(20) NOT NULL,
+    "DETAIL" VARCHAR2(200),             -- 일괄 복구 결과별 건수 등
+    "CLIENT_ADDR" VARCHAR2(45)
+);
+
+-- 기간별 / 관리자별 조회용 인덱스
+CREATE INDEX "IDX_AUDIT_TIME" ON "TB_ADMIN_AUDIT_LOG" ("EVENT_TIME");
+CREATE INDEX "IDX_AUDIT_ACTOR_TIME" ON "TB_ADMIN_AUDIT_LOG" ("ACTOR_EMAIL", "EVENT_TIME");
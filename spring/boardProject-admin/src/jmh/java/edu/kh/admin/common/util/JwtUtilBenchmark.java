@@ -0,0 +1,102 @@
+package edu.kh.admin.common.util;
+
+import java.lang.reflect.Field;
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * JwtUtil 벤치마크 (요청마다 실행되는 토큰 발급/검증)
+ * - 검증 벤치마크는 토큰 종류별로 측정 : VALID(정상) / EXPIRED(만료) / TAMPERED(서명 변조)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+	private static final String EMAIL = "admin@kh.or.kr";
+
+	private final JwtUtil jwtUtil = new JwtUtil();
+
+	/**
+	 * 검증할 토큰 (JwtUtil 과 같은 비밀 키로 서명)
+	 */
+	@State(Scope.Benchmark)
+	public static class Tokens {
+
+		@Param({"VALID", "EXPIRED", "TAMPERED"})
+		public String tokenType;
+
+		private String token;
+
+		@Setup
+		public void setup(JwtUtilBenchmark bench) throws Exception {
+			JwtUtil jwtUtil = bench.jwtUtil;
+
+			token = switch (tokenType) {
+				case "VALID" -> jwtUtil.generateAccessToken(EMAIL);
+				case "EXPIRED" -> expiredToken(jwtUtil);
+				case "TAMPERED" -> tampered(jwtUtil.generateAccessToken(EMAIL));
+				default -> throw new IllegalArgumentException(tokenType);
+			};
+		}
+
+		// 이미 만료된 토큰 (비밀 키는 외부에 노출되지 않으므로 리플렉션으로 가져옴)
+		private static String expiredToken(JwtUtil jwtUtil) throws Exception {
+			Field field = JwtUtil.class.getDeclaredField("secretKey");
+			field.setAccessible(true);
+			Key secretKey = (Key) field.get(jwtUtil);
+
+			long now = System.currentTimeMillis();
+			return Jwts.builder()
+					.setSubject(EMAIL)
+					.setIssuedAt(new Date(now - 60 * 60 * 1000))
+					.setExpiration(new Date(now - 30 * 60 * 1000))
+					.signWith(secretKey)
+					.compact();
+		}
+
+		// 서명 마지막 글자를 바꾼 토큰
+		private static String tampered(String token) {
+			char last = token.charAt(token.length() - 1);
+			return token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+		}
+	}
+
+	@Benchmark
+	public String generateAccessToken() {
+		return jwtUtil.generateAccessToken(EMAIL);
+	}
+
+	@Benchmark
+	public String generateRefreshToken() {
+		return jwtUtil.generateRefreshToken(EMAIL);
+	}
+
+	@Benchmark
+	public boolean isTokenValid(Tokens tokens) {
+		return jwtUtil.isTokenValid(tokens.token);
+	}
+
+	@Benchmark
+	public String extractUserEmail(Tokens tokens) {
+		// 유효하지 않은 토큰은 예외가 발생하므로 예외 생성 비용까지 측정
+		try {
+			return jwtUtil.extractUserEmail(tokens.token);
+		} catch (JwtException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package edu.kh.admin.common.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt 벤치마크
+ * - 비용(strength)별 encode/matches 시간 (로그인 1회 = matches 1회, 관리자 계정 생성 1회 = encode 1회)
+ * - 기본 비용은 10 (SecurityConfig 의 new BCryptPasswordEncoder())
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+public class PasswordBenchmark {
+
+	private static final String RAW_PASSWORD = "pass01!";
+
+	@Param({"4", "8", "10", "12"})
+	public int strength;
+
+	private BCryptPasswordEncoder encoder;
+	private String encoded;
+
+	@Setup
+	public void setup() {
+		encoder = new BCryptPasswordEncoder(strength);
+		encoded = encoder.encode(RAW_PASSWORD);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public String bcryptEncode() {
+		return encoder.encode(RAW_PASSWORD);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public boolean bcryptMatches() {
+		return encoder.matches(RAW_PASSWORD, encoded);
+	}
+
+}
@@ -0,0 +1,33 @@
+package edu.kh.admin.common.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Utility 벤치마크
+ * - generatePassword : 관리자 계정 생성 시 임시 비밀번호 생성
+ * - hashToken        : Refresh Token 저장/조회 시 토큰 해시값 생성
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class UtilityBenchmark {
+
+	private final String refreshToken = new JwtUtil().generateRefreshToken("admin@kh.or.kr");
+
+	@Benchmark
+	public String generatePassword() {
+		return Utility.generatePassword();
+	}
+
+	@Benchmark
+	public String hashToken() {
+		return Utility.hashToken(refreshToken);
+	}
+}
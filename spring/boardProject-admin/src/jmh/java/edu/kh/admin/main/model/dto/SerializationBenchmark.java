@@ -0,0 +1,112 @@
+package edu.kh.admin.main.model.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * 목록 응답 직렬화 벤치마크 (10,000 행)
+ * - bean*   : 기존 응답 (Board / Member 전체 필드, null 포함, 기본 ObjectMapper)
+ * - beanNonNull : 기존 응답 객체 + null 생략 (설정 변경만의 효과)
+ * - record* : 응답 전용 record + null 생략 + Blackbird (현재 설정)
+ * 응답 크기(byte)는 시작 시 콘솔에 출력, 할당량은 gc 프로파일러의 gc.alloc.rate.norm 참고
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+	private static final int ROWS = 10_000;
+
+	private final ObjectMapper defaultMapper = new ObjectMapper();
+
+	private final ObjectMapper nonNullMapper = JsonMapper.builder()
+			.serializationInclusion(Include.NON_NULL)
+			.build();
+
+	private final ObjectMapper leanMapper = JsonMapper.builder()
+			.serializationInclusion(Include.NON_NULL)
+			.addModule(new BlackbirdModule())
+			.build();
+
+	private List<Board> boardBeans;
+	private List<DeletedBoard> boardRecords;
+	private List<Member> memberBeans;
+	private List<WithdrawnMember> memberRecords;
+
+	@Setup
+	public void setup() throws JsonProcessingException {
+		boardBeans = new ArrayList<>(ROWS);
+		boardRecords = new ArrayList<>(ROWS);
+		memberBeans = new ArrayList<>(ROWS);
+		memberRecords = new ArrayList<>(ROWS);
+
+		for (int i = 0; i < ROWS; i++) {
+			int boardNo = 100_000 - i;
+			int boardCode = i % 3 + 1;
+			String title = "삭제된 게시글 제목 " + boardNo;
+			String writeDate = "2024-05-" + (i % 28 + 10) + " 12:34:56";
+			String boardName = boardCode == 1 ? "공지사항" : boardCode == 2 ? "자유 게시판" : "질문 게시판";
+			String nickname = "회원" + (i % 500);
+
+			// 기존 목록 쿼리가 채우던 필드만 설정 (나머지는 null / 0)
+			boardBeans.add(Board.builder().boardNo(boardNo).boardTitle(title).boardCode(boardCode)
+					.boardWriteDate(writeDate).boardName(boardName).memberNickname(nickname).build());
+			boardRecords.add(new DeletedBoard(boardNo, title, boardCode, writeDate, i % 500, boardName, nickname));
+
+			Member member = new Member();
+			member.setMemberNo(boardNo);
+			member.setMemberEmail("user" + boardNo + "@kh.or.kr");
+			member.setMemberNickname(nickname);
+			memberBeans.add(member);
+			memberRecords.add(new WithdrawnMember(boardNo, member.getMemberEmail(), nickname));
+		}
+
+		System.out.printf("%n[payload bytes / %d rows] boards: bean=%d, beanNonNull=%d, record=%d"
+				+ " | members: bean=%d, record=%d%n", ROWS,
+				defaultMapper.writeValueAsBytes(boardBeans).length,
+				nonNullMapper.writeValueAsBytes(boardBeans).length,
+				leanMapper.writeValueAsBytes(boardRecords).length,
+				defaultMapper.writeValueAsBytes(memberBeans).length,
+				leanMapper.writeValueAsBytes(memberRecords).length);
+	}
+
+	@Benchmark
+	public byte[] deletedBoardsBean() throws JsonProcessingException {
+		return defaultMapper.writeValueAsBytes(boardBeans);
+	}
+
+	@Benchmark
+	public byte[] deletedBoardsBeanNonNull() throws JsonProcessingException {
+		return nonNullMapper.writeValueAsBytes(boardBeans);
+	}
+
+	@Benchmark
+	public byte[] deletedBoardsRecord() throws JsonProcessingException {
+		return leanMapper.writeValueAsBytes(boardRecords);
+	}
+
+	@Benchmark
+	public byte[] withdrawnMembersBean() throws JsonProcessingException {
+		return defaultMapper.writeValueAsBytes(memberBeans);
+	}
+
+	@Benchmark
+	public byte[] withdrawnMembersRecord() throws JsonProcessingException {
+		return leanMapper.writeValueAsBytes(memberRecords);
+	}
+}
@@ -0,0 +1,51 @@
+package edu.kh.admin.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 엔드포인트 하나의 응답 시간(ns) 기록
+ * - 가상 사용자(스레드)마다 따로 기록한 뒤 마지막에 합치므로 동기화하지 않음
+ */
+class LatencySamples {
+
+	private long[] values = new long[1024];
+	private int size;
+	private int errors;
+
+	void record(long nanos, boolean error) {
+		if (size == values.length) values = Arrays.copyOf(values, size * 2);
+		values[size++] = nanos;
+		if (error) errors++;
+	}
+
+	void addAll(LatencySamples other) {
+		if (size + other.size > values.length) {
+			values = Arrays.copyOf(values, Math.max(values.length * 2, size + other.size));
+		}
+		System.arraycopy(other.values, 0, values, size, other.size);
+		size += other.size;
+		errors += other.errors;
+	}
+
+	int count() {
+		return size;
+	}
+
+	int errors() {
+		return errors;
+	}
+
+	/**
+	 * 백분위 응답 시간(ms) - sort() 호출 후 사용
+	 * @param percentile 0 ~ 100
+	 */
+	double percentileMillis(double percentile) {
+		if (size == 0) return 0;
+		int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+		return values[Math.max(0, Math.min(size - 1, index))] / 1_000_000.0;
+	}
+
+	void sort() {
+		Arrays.sort(values, 0, size);
+	}
+}
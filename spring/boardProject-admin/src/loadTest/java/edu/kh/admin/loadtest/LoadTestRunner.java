@@ -0,0 +1,167 @@
+package edu.kh.admin.loadtest;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.zaxxer.hikari.HikariDataSource;
+
+import edu.kh.admin.BoardProjectAdminApplication;
+
+/**
+ * 부하 테스트 실행기 (./gradlew loadTest)
+ * - 전체 스프링 컨텍스트를 내장 H2(Oracle 호환 모드) + loadtest 프로파일로 띄우고
+ *   가상 사용자(관리자) 수만큼 동시에 로그인 -> 토큰 갱신 -> 통계 -> 목록 조회/복구 요청을 보냄
+ * - 엔드포인트별 처리량, p50/p95/p99 응답 시간과 커넥션 풀 포화도를 출력하고 JSON 으로 저장
+ *   -> AdminServiceImpl, 매퍼, DBConfig 변경 전후 결과 비교용
+ */
+public class LoadTestRunner {
+
+	private static final String PASSWORD = "pass01!";
+
+	public static void main(String[] args) throws Exception {
+
+		LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(BoardProjectAdminApplication.class)
+				.profiles("loadtest")
+				.run(args);
+
+		try {
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+			String baseUrl = "http://localhost:" + port;
+
+			List<String> emails = createAdminAccounts(context, settings.users());
+
+			long startNanos = System.nanoTime();
+			long measureFromNanos = startNanos + TimeUnit.SECONDS.toNanos(settings.warmupSeconds());
+			long endNanos = measureFromNanos + TimeUnit.SECONDS.toNanos(settings.durationSeconds());
+
+			PoolSampler poolSampler = new PoolSampler(context.getBeansOfType(HikariDataSource.class));
+			poolSampler.start(measureFromNanos);
+
+			System.out.printf("부하 테스트 시작 : 사용자 %d명, 워밍업 %ds, 측정 %ds (%s)%n",
+					settings.users(), settings.warmupSeconds(), settings.durationSeconds(), baseUrl);
+
+			ExecutorService executor = Executors.newFixedThreadPool(settings.users());
+			List<Future<Map<String, LatencySamples>>> futures = new ArrayList<>();
+
+			for (String email : emails) {
+				futures.add(executor.submit(
+						new VirtualUser(baseUrl, email, PASSWORD, settings, measureFromNanos, endNanos)));
+			}
+
+			// 사용자별 기록 합치기
+			Map<String, LatencySamples> merged = new TreeMap<>();
+			for (Future<Map<String, LatencySamples>> future : futures) {
+				future.get().forEach((endpoint, samples) ->
+					merged.computeIfAbsent(endpoint, k -> new LatencySamples()).addAll(samples));
+			}
+			executor.shutdown();
+
+			Map<String, PoolSampler.PoolStats> pools = poolSampler.stop();
+
+			report(settings, merged, pools);
+
+		} finally {
+			context.close();
+		}
+	}
+
+	/**
+	 * 가상 사용자용 관리자 계정 생성 (loadtest-admin-{n}@kh.or.kr / pass01!)
+	 */
+	private static List<String> createAdminAccounts(ConfigurableApplicationContext context, int count) {
+		JdbcTemplate jdbc = new JdbcTemplate(context.getBean(DataSource.class));
+		String encPw = context.getBean(BCryptPasswordEncoder.class).encode(PASSWORD);
+
+		List<String> emails = new ArrayList<>();
+		List<Object[]> rows = new ArrayList<>();
+		for (int i = 1; i <= count; i++) {
+			String email = "loadtest-admin-" + i + "@kh.or.kr";
+			emails.add(email);
+			rows.add(new Object[] {email, encPw, "부하관리자" + i, String.format("010%08d", i)});
+		}
+
+		jdbc.batchUpdate("""
+				INSERT INTO "MEMBER" ("MEMBER_NO", "MEMBER_EMAIL", "MEMBER_PW", "MEMBER_NICKNAME", "MEMBER_TEL", "AUTHORITY")
+				VALUES (SEQ_MEMBER_NO.NEXTVAL, ?, ?, ?, ?, 2)
+				""", rows);
+
+		return emails;
+	}
+
+	private static void report(LoadTestSettings settings, Map<String, LatencySamples> merged,
+			Map<String, PoolSampler.PoolStats> pools) throws Exception {
+
+		double seconds = settings.durationSeconds();
+		Map<String, Object> endpoints = new LinkedHashMap<>();
+		long total = 0;
+
+		System.out.println();
+		System.out.printf("%-22s %8s %7s %9s %9s %9s %9s %9s%n",
+				"endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+
+		for (Map.Entry<String, LatencySamples> entry : merged.entrySet()) {
+			LatencySamples s = entry.getValue();
+			s.sort();
+			total += s.count();
+
+			Map<String, Object> row = new LinkedHashMap<>();
+			row.put("count", s.count());
+			row.put("errors", s.errors());
+			row.put("throughput", s.count() / seconds);
+			row.put("p50", s.percentileMillis(50));
+			row.put("p95", s.percentileMillis(95));
+			row.put("p99", s.percentileMillis(99));
+			row.put("max", s.percentileMillis(100));
+			endpoints.put(entry.getKey(), row);
+
+			System.out.printf("%-22s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+					entry.getKey(), s.count(), s.errors(), s.count() / seconds,
+					s.percentileMillis(50), s.percentileMillis(95), s.percentileMillis(99), s.percentileMillis(100));
+		}
+		System.out.printf("%-22s %8d %7s %9.1f%n", "total", total, "", total / seconds);
+
+		Map<String, Object> poolReport = new LinkedHashMap<>();
+		System.out.println();
+		pools.forEach((name, stats) -> {
+			Map<String, Object> map = stats.toMap();
+			poolReport.put(name, map);
+			System.out.printf("pool %-16s %s%n", name, map);
+		});
+
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("settings", settings);
+		result.put("endpoints", endpoints);
+		result.put("pools", poolReport);
+
+		File dir = new File(settings.outputDir());
+		dir.mkdirs();
+		File file = new File(dir, "loadtest-" 
+				+ LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, result);
+		System.out.println();
+		System.out.println("결과 저장 : " + file.getAbsolutePath());
+	}
+}
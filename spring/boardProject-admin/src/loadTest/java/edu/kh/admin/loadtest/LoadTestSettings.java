@@ -0,0 +1,27 @@
+package edu.kh.admin.loadtest;
+
+/**
+ * 부하 테스트 설정 (시스템 속성으로 지정, ./gradlew loadTest -Ploadtest.users=50 ...)
+ *
+ * @param users            동시 가상 사용자(관리자) 수
+ * @param warmupSeconds    워밍업 시간 (측정에서 제외)
+ * @param durationSeconds  측정 시간
+ * @param actionsPerSession 로그인 한 번당 요청 수 (이후 로그아웃 후 다시 로그인)
+ * @param restoreRatio     목록 조회 후 복구 요청을 보낼 확률
+ * @param thinkTimeMillis  요청 사이 최대 대기 시간 (0 이면 쉬지 않음)
+ * @param outputDir        결과(JSON) 저장 폴더
+ */
+record LoadTestSettings(int users, int warmupSeconds, int durationSeconds, int actionsPerSession,
+		double restoreRatio, long thinkTimeMillis, String outputDir) {
+
+	static LoadTestSettings fromSystemProperties() {
+		return new LoadTestSettings(
+				Integer.getInteger("loadtest.users", 20),
+				Integer.getInteger("loadtest.warmup", 10),
+				Integer.getInteger("loadtest.duration", 60),
+				Integer.getInteger("loadtest.actions-per-session", 20),
+				Double.parseDouble(System.getProperty("loadtest.restore-ratio", "0.1")),
+				Long.getLong("loadtest.think-time", 0L),
+				System.getProperty("loadtest.output", "build/reports/loadtest"));
+	}
+}
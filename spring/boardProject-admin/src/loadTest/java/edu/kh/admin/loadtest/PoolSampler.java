@@ -0,0 +1,87 @@
+package edu.kh.admin.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * 커넥션 풀 포화도 측정 (100ms 마다 풀 상태 기록)
+ * - active   : 사용 중인 커넥션 수
+ * - pending  : 커넥션을 기다리는 스레드 수 (0 보다 크면 풀이 부족한 상태)
+ * - saturated: 모든 커넥션이 사용 중이었던 시간 비율
+ */
+class PoolSampler {
+
+	// 풀 하나의 측정값
+	static class PoolStats {
+		final int maxPoolSize;
+		long samples;
+		long activeSum;
+		int activeMax;
+		long pendingSum;
+		int pendingMax;
+		long saturatedSamples;
+
+		PoolStats(int maxPoolSize) {
+			this.maxPoolSize = maxPoolSize;
+		}
+
+		Map<String, Object> toMap() {
+			Map<String, Object> map = new LinkedHashMap<>();
+			map.put("maxPoolSize", maxPoolSize);
+			map.put("activeAvg", samples == 0 ? 0 : (double) activeSum / samples);
+			map.put("activeMax", activeMax);
+			map.put("pendingAvg", samples == 0 ? 0 : (double) pendingSum / samples);
+			map.put("pendingMax", pendingMax);
+			map.put("saturatedRatio", samples == 0 ? 0 : (double) saturatedSamples / samples);
+			return map;
+		}
+	}
+
+	private final Map<String, HikariDataSource> dataSources;
+	private final Map<String, PoolStats> stats = new LinkedHashMap<>();
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+	PoolSampler(Map<String, HikariDataSource> dataSources) {
+		this.dataSources = dataSources;
+		dataSources.forEach((name, ds) -> stats.put(name, new PoolStats(ds.getMaximumPoolSize())));
+	}
+
+	/**
+	 * @param measureFromNanos 이 시각(System.nanoTime()) 이후부터 기록 (워밍업 제외)
+	 */
+	void start(long measureFromNanos) {
+		scheduler.scheduleAtFixedRate(() -> {
+			if (System.nanoTime() < measureFromNanos) return;
+			sample();
+		}, 100, 100, TimeUnit.MILLISECONDS);
+	}
+
+	private synchronized void sample() {
+		dataSources.forEach((name, ds) -> {
+			HikariPoolMXBean pool = ds.getHikariPoolMXBean();
+			if (pool == null) return; // 아직 커넥션을 한 번도 사용하지 않음
+
+			PoolStats s = stats.get(name);
+			int active = pool.getActiveConnections();
+			int pending = pool.getThreadsAwaitingConnection();
+
+			s.samples++;
+			s.activeSum += active;
+			s.activeMax = Math.max(s.activeMax, active);
+			s.pendingSum += pending;
+			s.pendingMax = Math.max(s.pendingMax, pending);
+			if (active >= s.maxPoolSize) s.saturatedSamples++;
+		});
+	}
+
+	synchronized Map<String, PoolStats> stop() {
+		scheduler.shutdownNow();
+		return stats;
+	}
+}
@@ -0,0 +1,181 @@
+package edu.kh.admin.loadtest;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 가상 사용자 (관리자 한 명)
+ * - 로그인 -> (토큰 갱신 / 대시보드 통계 / 탈퇴 회원, 삭제 게시글 목록 조회 및 복구) 를 반복한 뒤 다시 로그인
+ * - 각 요청의 응답 시간을 엔드포인트별로 기록 (워밍업 구간 제외)
+ */
+class VirtualUser implements Callable<Map<String, LatencySamples>> {
+
+	private static final ObjectMapper JSON = new ObjectMapper();
+
+	private final String baseUrl;
+	private final String email;
+	private final String password;
+	private final LoadTestSettings settings;
+	private final long measureFromNanos;
+	private final long endNanos;
+
+	private final HttpClient client;
+	private final Map<String, LatencySamples> samples = new HashMap<>();
+	private String accessToken;
+
+	VirtualUser(String baseUrl, String email, String password, LoadTestSettings settings,
+			long measureFromNanos, long endNanos) {
+		this.baseUrl = baseUrl;
+		this.email = email;
+		this.password = password;
+		this.settings = settings;
+		this.measureFromNanos = measureFromNanos;
+		this.endNanos = endNanos;
+
+		// 사용자마다 쿠키 저장소(Refresh Token 쿠키)를 따로 사용
+		this.client = HttpClient.newBuilder()
+				.cookieHandler(new CookieManager())
+				.connectTimeout(Duration.ofSeconds(5))
+				.build();
+	}
+
+	@Override
+	public Map<String, LatencySamples> call() throws Exception {
+		while (System.nanoTime() < endNanos) {
+
+			if (!login()) {
+				Thread.sleep(100);
+				continue;
+			}
+
+			for (int i = 0; i < settings.actionsPerSession() && System.nanoTime() < endNanos; i++) {
+				nextAction();
+				think();
+			}
+
+			send("logout", post("/auth/logout", ""));
+		}
+		return samples;
+	}
+
+	private boolean login() throws Exception {
+		String body = JSON.writeValueAsString(Map.of("memberEmail", email, "memberPw", password));
+		HttpResponse<String> res = send("login", post("/auth/login", body));
+		if (res == null || res.statusCode() != 200) return false;
+
+		accessToken = JSON.readTree(res.body()).path("accessToken").asText();
+		return true;
+	}
+
+	// 요청 비율 : 토큰 갱신 10%, 통계 30%, 탈퇴 회원 30%, 삭제 게시글 30%
+	private void nextAction() throws Exception {
+		double r = ThreadLocalRandom.current().nextDouble();
+
+		if (r < 0.1) {
+			HttpResponse<String> res = send("refresh", post("/auth/refresh", ""));
+			if (res != null && res.statusCode() == 200) {
+				accessToken = JSON.readTree(res.body()).path("accessToken").asText();
+			}
+
+		} else if (r < 0.4) {
+			send("statistics", get("/admin/statistics"));
+
+		} else if (r < 0.7) {
+			HttpResponse<String> res = send("withdrawnMemberList", get("/admin/withdrawnMemberList?size=20"));
+			Integer memberNo = pick(res, "memberNo");
+			if (memberNo != null && restore()) {
+				send("restoreMember", put("/admin/restoreMember", "{\"memberNo\":" + memberNo + "}"));
+			}
+
+		} else {
+			int boardCode = ThreadLocalRandom.current().nextInt(1, 4);
+			HttpResponse<String> res = send("deleteBoardList", 
+					get("/admin/deleteBoardList?size=20&boardCode=" + boardCode));
+			Integer boardNo = pick(res, "boardNo");
+			if (boardNo != null && restore()) {
+				send("restoreBoard", put("/admin/restoreBoard", "{\"boardNo\":" + boardNo + "}"));
+			}
+		}
+	}
+
+	private boolean restore() {
+		return ThreadLocalRandom.current().nextDouble() < settings.restoreRatio();
+	}
+
+	// 목록 응답({ list, next })에서 임의의 항목 번호 선택
+	private static Integer pick(HttpResponse<String> res, String field) throws IOException {
+		if (res == null || res.statusCode() != 200) return null;
+
+		JsonNode list = JSON.readTree(res.body()).path("list");
+		if (!list.isArray() || list.isEmpty()) return null;
+
+		return list.get(ThreadLocalRandom.current().nextInt(list.size())).path(field).asInt();
+	}
+
+	private void think() throws InterruptedException {
+		if (settings.thinkTimeMillis() > 0) {
+			Thread.sleep(ThreadLocalRandom.current().nextLong(settings.thinkTimeMillis() + 1));
+		}
+	}
+
+	// /admin/** 요청 (Access Token 필요)
+	private HttpRequest get(String path) {
+		return authorized(path).GET().build();
+	}
+
+	// /auth/** 요청 (Refresh Token 쿠키만 사용)
+	private HttpRequest post(String path, String body) {
+		return request(path).header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(body))
+				.build();
+	}
+
+	private HttpRequest put(String path, String body) {
+		return authorized(path)
+				.header("Content-Type", "application/json")
+				.PUT(HttpRequest.BodyPublishers.ofString(body))
+				.build();
+	}
+
+	private HttpRequest.Builder request(String path) {
+		return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+	}
+
+	private HttpRequest.Builder authorized(String path) {
+		return request(path).header("Authorization", "Bearer " + accessToken);
+	}
+
+	/**
+	 * 요청 전송 후 응답 시간 기록
+	 * - 4xx/5xx 응답과 연결 실패는 오류로 집계 (복구 경합으로 인한 400 포함)
+	 * @return 연결 실패 시 null
+	 */
+	private HttpResponse<String> send(String endpoint, HttpRequest request) throws InterruptedException {
+		long start = System.nanoTime();
+		HttpResponse<String> res = null;
+		try {
+			res = client.send(request, HttpResponse.BodyHandlers.ofString());
+		} catch (IOException e) {
+			// 연결 실패 -> 오류로 기록
+		}
+		long elapsed = System.nanoTime() - start;
+
+		if (start >= measureFromNanos) {
+			samples.computeIfAbsent(endpoint, k -> new LatencySamples())
+				.record(elapsed, res == null || res.statusCode() >= 400);
+		}
+		return res;
+	}
+}
@@ -0,0 +1,32 @@
+-- 부하 테스트용 샘플 데이터
+-- 일반 회원 20,000명 (10% 탈퇴), 게시글 100,000개 (5% 삭제), 좋아요 99,999개, 댓글 200,000개
+-- 관리자 계정은 LoadTestRunner 가 가상 사용자 수만큼 생성
+
+INSERT INTO "BOARD_TYPE" VALUES (1, '공지사항');
+INSERT INTO "BOARD_TYPE" VALUES (2, '자유 게시판');
+INSERT INTO "BOARD_TYPE" VALUES (3, '질문 게시판');
+
+INSERT INTO "MEMBER" 
+("MEMBER_NO", "MEMBER_EMAIL", "MEMBER_PW", "MEMBER_NICKNAME", "MEMBER_TEL", "ENROLL_DATE", "MEMBER_DEL_FL", "AUTHORITY")
+SELECT X, 'user' || X || '@kh.or.kr', 'not-a-login-account', '회원' || X, '010' || LPAD(X, 8, '0'),
+       DATEADD('DAY', -MOD(X, 365), CURRENT_TIMESTAMP),
+       CASE WHEN MOD(X, 10) = 0 THEN 'Y' ELSE 'N' END, 1
+FROM SYSTEM_RANGE(1, 20000);
+
+ALTER SEQUENCE "SEQ_MEMBER_NO" RESTART WITH 20001;
+
+INSERT INTO "BOARD"
+("BOARD_NO", "BOARD_TITLE", "BOARD_CONTENT", "BOARD_WRITE_DATE", "READ_COUNT", "BOARD_DEL_FL", "MEMBER_NO", "BOARD_CODE")
+SELECT X, '게시글 제목 ' || X, '게시글 내용 ' || X,
+       DATEADD('MINUTE', -X * 5, CURRENT_TIMESTAMP), MOD(X * 13, 5000),
+       CASE WHEN MOD(X, 20) = 0 THEN 'Y' ELSE 'N' END,
+       MOD(X, 20000) + 1, MOD(X, 3) + 1
+FROM SYSTEM_RANGE(1, 100000);
+
+INSERT INTO "BOARD_LIKE" ("MEMBER_NO", "BOARD_NO")
+SELECT MOD(X, 20000) + 1, MOD(X * 31, 100000) + 1
+FROM SYSTEM_RANGE(1, 99999);
+
+INSERT INTO "COMMENT" ("COMMENT_NO", "COMMENT_CONTENT", "BOARD_NO", "MEMBER_NO")
+SELECT X, '댓글 ' || X, MOD(X * 17, 100000) + 1, MOD(X, 20000) + 1
+FROM SYSTEM_RANGE(1, 200000);
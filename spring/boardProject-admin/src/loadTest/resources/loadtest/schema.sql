@@ -0,0 +1,95 @@
+-- 부하 테스트용 스키마 (H2, Oracle 호환 모드)
+-- 원본 boardProject 테이블 중 관리자 매퍼(mappers/*.xml)가 사용하는 테이블/컬럼과
+-- admin스크립트.sql 의 테이블, 인덱스를 그대로 옮김
+
+CREATE SEQUENCE "SEQ_MEMBER_NO" START WITH 1 NOCACHE;
+
+CREATE TABLE "MEMBER" (
+    "MEMBER_NO" NUMBER PRIMARY KEY,
+    "MEMBER_EMAIL" VARCHAR2(50) NOT NULL,
+    "MEMBER_PW" VARCHAR2(100) NOT NULL,
+    "MEMBER_NICKNAME" VARCHAR2(30) NOT NULL,
+    "MEMBER_TEL" CHAR(11),
+    "MEMBER_ADDRESS" VARCHAR2(300),
+    "PROFILE_IMG" VARCHAR2(300),
+    "ENROLL_DATE" DATE DEFAULT SYSDATE NOT NULL,
+    "MEMBER_DEL_FL" CHAR(1) DEFAULT 'N' NOT NULL,
+    "AUTHORITY" NUMBER DEFAULT 1 NOT NULL
+);
+
+CREATE TABLE "BOARD_TYPE" (
+    "BOARD_CODE" NUMBER PRIMARY KEY,
+    "BOARD_NAME" VARCHAR2(20) NOT NULL
+);
+
+CREATE TABLE "BOARD" (
+    "BOARD_NO" NUMBER PRIMARY KEY,
+    "BOARD_TITLE" VARCHAR2(150) NOT NULL,
+    "BOARD_CONTENT" VARCHAR2(4000) NOT NULL,
+    "BOARD_WRITE_DATE" DATE DEFAULT SYSDATE NOT NULL,
+    "BOARD_UPDATE_DATE" DATE,
+    "READ_COUNT" NUMBER DEFAULT 0 NOT NULL,
+    "BOARD_DEL_FL" CHAR(1) DEFAULT 'N' NOT NULL,
+    "MEMBER_NO" NUMBER NOT NULL REFERENCES "MEMBER" ("MEMBER_NO"),
+    "BOARD_CODE" NUMBER NOT NULL REFERENCES "BOARD_TYPE" ("BOARD_CODE")
+);
+
+CREATE TABLE "BOARD_LIKE" (
+    "MEMBER_NO" NUMBER REFERENCES "MEMBER" ("MEMBER_NO"),
+    "BOARD_NO" NUMBER REFERENCES "BOARD" ("BOARD_NO"),
+    PRIMARY KEY ("MEMBER_NO", "BOARD_NO")
+);
+
+CREATE TABLE "COMMENT" (
+    "COMMENT_NO" NUMBER PRIMARY KEY,
+    "COMMENT_CONTENT" VARCHAR2(4000) NOT NULL,
+    "COMMENT_WRITE_DATE" DATE DEFAULT SYSDATE NOT NULL,
+    "COMMENT_DEL_FL" CHAR(1) DEFAULT 'N' NOT NULL,
+    "BOARD_NO" NUMBER NOT NULL REFERENCES "BOARD" ("BOARD_NO"),
+    "MEMBER_NO" NUMBER NOT NULL REFERENCES "MEMBER" ("MEMBER_NO"),
+    "PARENT_COMMENT_NO" NUMBER
+);
+
+-- admin스크립트.sql
+CREATE TABLE "TB_REFRESH_TOKEN" (
+    "MEMBER_NO" NUMBER PRIMARY KEY,
+    "MEMBER_EMAIL" NVARCHAR2(50) NOT NULL,
+    "REFRESH_TOKEN" VARCHAR(500) NOT NULL,
+    "EXPIRATION_DATE" TIMESTAMP NOT NULL,
+    "REFRESH_TOKEN_HASH" CHAR(64) NOT NULL,
+    CONSTRAINT "FK_MEMBER_NO" FOREIGN KEY ("MEMBER_NO") 
+	REFERENCES "MEMBER" ("MEMBER_NO") 
+	ON DELETE CASCADE
+);
+CREATE UNIQUE INDEX "UQ_REFRESH_TOKEN_HASH" ON "TB_REFRESH_TOKEN" ("REFRESH_TOKEN_HASH");
+CREATE INDEX "IDX_REFRESH_TOKEN_EXP" ON "TB_REFRESH_TOKEN" ("EXPIRATION_DATE");
+
+CREATE INDEX "IDX_MEMBER_DEL_NO" ON "MEMBER" ("MEMBER_DEL_FL", "MEMBER_NO");
+CREATE INDEX "IDX_BOARD_DEL_NO" ON "BOARD" ("BOARD_DEL_FL", "BOARD_NO");
+CREATE INDEX "IDX_BOARD_DEL_CODE_NO" ON "BOARD" ("BOARD_DEL_FL", "BOARD_CODE", "BOARD_NO");
+CREATE INDEX "IDX_BOARD_DEL_DATE" ON "BOARD" ("BOARD_DEL_FL", "BOARD_WRITE_DATE");
+
+CREATE TABLE "TB_MEMBER_DAILY_STAT" (
+    "STAT_DATE" DATE PRIMARY KEY,
+    "SIGNUP_COUNT" NUMBER DEFAULT 0 NOT NULL,
+    "WITHDRAWN_COUNT" NUMBER,
+    "ACTIVE_COUNT" NUMBER,
+    "WITHDRAWN_TOTAL" NUMBER
+);
+CREATE INDEX "IDX_MEMBER_ENROLL" ON "MEMBER" ("ENROLL_DATE");
+CREATE INDEX "IDX_MEMBER_AUTH_DEL_ENROLL" ON "MEMBER" ("AUTHORITY", "MEMBER_DEL_FL", "ENROLL_DATE");
+
+CREATE SEQUENCE "SEQ_AUDIT_NO" CACHE 100;
+CREATE TABLE "TB_ADMIN_AUDIT_LOG" (
+    "AUDIT_NO" NUMBER PRIMARY KEY,
+    "EVENT_TIME" TIMESTAMP NOT NULL,
+    "ACTOR_EMAIL" NVARCHAR2(50),
+    "ACTION" VARCHAR2(30) NOT NULL,
+    "TARGET_TYPE" VARCHAR2(20),
+    "TARGET_ID" NVARCHAR2(50),
+    "RESULT" VARCHAR2(20) NOT NULL,
+    "DETAIL" VARCHAR2(200),
+    "CLIENT_ADDR" VARCHAR2(45)
+);
+CREATE INDEX "IDX_AUDIT_TIME" ON "TB_ADMIN_AUDIT_LOG" ("EVENT_TIME");
+CREATE INDEX "IDX_AUDIT_ACTOR_TIME" ON "TB_ADMIN_AUDIT_LOG" ("ACTOR_EMAIL", "EVENT_TIME");
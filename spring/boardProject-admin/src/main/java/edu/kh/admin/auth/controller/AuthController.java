@@ -1,9 +1,18 @@
 package edu.kh.admin.auth.controller;
 
+import java.time.Duration;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -12,10 +21,15 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import edu.kh.admin.auth.model.dto.AuthResponse;
+import edu.kh.admin.auth.model.dto.RefreshResult;
 import edu.kh.admin.auth.model.service.AuthService;
+import edu.kh.admin.common.util.AuditLogger;
+import edu.kh.admin.common.util.AuthMetrics;
 import edu.kh.admin.common.util.JwtUtil;
+import edu.kh.admin.common.util.LoginRateLimiter;
 import edu.kh.admin.main.model.dto.Member;
 import edu.kh.admin.main.model.service.AdminService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -31,12 +45,80 @@ public class AuthController {
 	private final JwtUtil jwtUtil;  // JWT 생성 및 검증 유틸리티 클래스
     private final AdminService adminService;
     private final AuthService authService;
+    private final AuthMetrics authMetrics; // 요청별 처리 시간/결과 기록
+    private final LoginRateLimiter loginRateLimiter; // 주소/이메일별 로그인 시도 제한
+    private final AuditLogger auditLogger; // 로그인/로그아웃 감사 로그
+    
+    // 토큰 발급 + Refresh Token 저장 전용 스레드 풀 (해싱 스레드 풀과 분리)
+    @Autowired
+    @Qualifier("loginExecutor")
+    private ExecutorService loginExecutor;
     
     @PostMapping("login")
-    public ResponseEntity<Object> login(@RequestBody Member inputMember, HttpServletResponse response) {
+    public CompletableFuture<ResponseEntity<Object>> login(@RequestBody Member inputMember,
+    		HttpServletRequest request) {
       
+    	long start = System.nanoTime();
+    	
+    	// 0. 요청 제한 : 제한을 넘은 시도는 DB 조회, BCrypt 검증 없이 즉시 429 응답
+    	// (제한된 시도는 auth.login.throttle 메트릭으로만 기록하고 감사 로그는 남기지 않음)
+    	String clientAddr = request.getRemoteAddr();
+    	long retryAfter = loginRateLimiter.check(clientAddr, inputMember.getMemberEmail());
+    	if (retryAfter > 0) {
+    		return CompletableFuture.completedFuture(authMetrics.recordRequest("login", "throttled", start,
+    				ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+    					.header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+    					.body("로그인 시도 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.")));
+    	}
+    	
         //  1. 유저 검증: 이메일 / 비밀번호와 일치하는 유저가 DB에 존재하는지 확인.
-    	Member loginMember = adminService.login(inputMember);
+    	// -> BCrypt 검증은 해싱 전용 스레드 풀에서 수행되고, 그동안 요청(서블릿) 스레드는 반환됨
+    	try {
+    		return adminService.loginAsync(inputMember)
+    				// 토큰 발급/저장(DB 왕복)은 해싱 스레드가 아닌 로그인 후처리 스레드 풀에서 실행
+    				.thenApplyAsync(loginMember -> issueTokens(inputMember, loginMember), loginExecutor)
+    				.thenApply(res -> authMetrics.recordRequest("login", loginOutcome(res), start, res))
+    				// 요청 스레드가 아닌 로그인 후처리 스레드에서 실행되므로 작업자/주소를 직접 전달
+    				.whenComplete((res, e) -> auditLogger.recordAs(inputMember.getMemberEmail(), clientAddr, 
+    						"LOGIN", "MEMBER", inputMember.getMemberEmail(), 
+    						res != null ? loginOutcome(res).toUpperCase() : "ERROR", null))
+    				.exceptionally(e -> {
+    					if (e.getCause() instanceof RejectedExecutionException) {
+    						// 로그인 후처리 스레드 풀 포화 -> 대기하지 않고 503 응답
+    						log.warn("로그인 후처리 스레드 풀 포화로 로그인 요청 거절");
+    						return authMetrics.recordRequest("login", "rejected", start, serviceUnavailable());
+    					}
+    					log.error("로그인 처리 중 예외 발생", e);
+    					return authMetrics.recordRequest("login", "error", start,
+    							ResponseEntity.status(500).body("로그인 처리 중 오류가 발생했습니다."));
+    				});
+    		
+    	} catch (RejectedExecutionException e) {
+    		// 해싱 스레드 풀이 포화 상태 -> 대기하지 않고 즉시 503 응답
+    		log.warn("해싱 스레드 풀 포화로 로그인 요청 거절");
+    		return CompletableFuture.completedFuture(authMetrics.recordRequest("login", "rejected", start,
+    				serviceUnavailable()));
+    	}
+    }
+    
+    // 스레드 풀 포화 시 응답
+    private ResponseEntity<Object> serviceUnavailable() {
+    	return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+    			.header(HttpHeaders.RETRY_AFTER, "1")
+    			.body("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+    
+    // 로그인 응답 상태 -> 메트릭 outcome
+    private String loginOutcome(ResponseEntity<Object> res) {
+    	return switch (res.getStatusCode().value()) {
+    		case 200 -> "success";
+    		case 401 -> "unauthorized";
+    		default -> "error";
+    	};
+    }
+    
+    // 로그인 성공 시 토큰 발급 및 Refresh Token 저장
+    private ResponseEntity<Object> issueTokens(Member inputMember, Member loginMember) {
     	
 		if (loginMember == null) {
 			// 이메일이 없거나 비밀번호가 맞지 않으면 401 Unauthorized 응답
@@ -61,14 +143,17 @@ public class AuthController {
         // 4. 리프레시토큰 httpOnly 쿠키에 저장
         if(result > 0) {
         	// Refresh Token 쿠키 설정
-        	Cookie refreshTokenCookie = new Cookie("refreshToken", refreshToken);
-        	refreshTokenCookie.setHttpOnly(true);
-        	refreshTokenCookie.setPath("/");
-        	refreshTokenCookie.setMaxAge(7 * 24 * 60 * 60); // 7일
-        	response.addCookie(refreshTokenCookie);
+        	// (비동기 응답이므로 HttpServletResponse 대신 Set-Cookie 헤더로 전달)
+        	ResponseCookie refreshTokenCookie = ResponseCookie.from("refreshToken", refreshToken)
+        			.httpOnly(true)
+        			.path("/")
+        			.maxAge(Duration.ofDays(7)) // 7일
+        			.build();
         	
         	// Access Token과 Refresh Token을 클라이언트로 반환
-        	return ResponseEntity.ok(new AuthResponse(accessToken, loginMember));
+        	return ResponseEntity.ok()
+        			.header(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString())
+        			.body(new AuthResponse(accessToken, loginMember));
         	
         } else {
         	return ResponseEntity.status(500).body("리프레시 토큰 저장 중 예외 발생");
@@ -79,6 +164,7 @@ public class AuthController {
     @PostMapping("logout")
     public ResponseEntity<Object> logout(HttpServletRequest request, HttpServletResponse response) {
 
+    	long start = System.nanoTime();
 
         // 클라이언트로부터 전달된 Refresh Token을 추출 (쿠키에서)
         Cookie[] cookies = request.getCookies();
@@ -109,9 +195,11 @@ public class AuthController {
         // 2. refreshToken이 존재하면 DB에서 삭제 시도
         if (refreshToken != null) {
         	try {
-                String memberEmail = jwtUtil.extractUserEmail(refreshToken); // 토큰에서 이메일 추출
-                if (memberEmail != null) {
-                    authService.deleteRefreshToken(memberEmail); // 토큰 삭제 시도
+        		Claims claims = jwtUtil.verify(refreshToken); // 토큰 검증 + 파싱 (한 번만)
+                if (claims != null && claims.getSubject() != null) {
+                    authService.deleteRefreshToken(claims.getSubject()); // 토큰에서 추출한 이메일로 삭제 시도
+                    auditLogger.recordAs(claims.getSubject(), request.getRemoteAddr(), 
+                    		"LOGOUT", "MEMBER", claims.getSubject(), "SUCCESS", null);
                 }
             } catch (Exception e) {
                 // 로그에 예외 기록, 하지만 프로세스는 중단하지 않음
@@ -128,13 +216,16 @@ public class AuthController {
        
 
         // 4. 성공 응답 반환
-        return ResponseEntity.ok("로그아웃 성공");
+        return authMetrics.recordRequest("logout", refreshToken != null ? "success" : "no_token", start,
+        		ResponseEntity.ok("로그아웃 성공"));
     }
     
     // 리프레시 토큰을 이용해 액세스 토큰 재발급
     @PostMapping("refresh")
     public ResponseEntity<Object> refreshAccessToken(HttpServletRequest request) {
     	   
+    	long start = System.nanoTime();
+    	
     	// 요청에서 refresh token을 쿠키로 받아오기
         Cookie[] cookies = request.getCookies();
         String refreshToken = null;
@@ -150,32 +241,31 @@ public class AuthController {
         
 
         if (refreshToken == null) {
-            return ResponseEntity.status(400).body("Refresh Token이 없습니다.");
+            return authMetrics.recordRequest("refresh", "missing", start,
+            		ResponseEntity.status(400).body("Refresh Token이 없습니다."));
         }
 
-        // Refresh Token을 검증
-        if (!jwtUtil.isTokenValid(refreshToken)) {
-            return ResponseEntity.status(401).body("Refresh Token이 유효하지 않거나 만료되었습니다.");
-        }
-        
         try {
         	
-        	// 리프레시 토큰을 DB에 가져가서 비교 
-        	String memberEmail = authService.matchRefreshToken(refreshToken);
-        	
-        	if(memberEmail == null) {
-        		return ResponseEntity.status(500).body("일치하는 리프레시 토큰 없음");
-        	} 
+        	// Refresh Token 검증 + DB 비교 후 재발급
+        	// -> 같은 Refresh Token 으로 동시에 들어온 요청은 한 번만 처리하고 같은 Access Token 을 함께 받음
+        	RefreshResult result = authService.refreshAccessToken(refreshToken);
         	
-        	// 일치하는 토큰이 있다면 매핑되는 memberEmail을 조회하여 가지고옴.
-        	// memberEmail로 새로운 accessToken 발급
-        	String newAccessToken = jwtUtil.generateAccessToken(memberEmail);
-        			
-        	// 새로운 Access Token을 클라이언트에게 반환
-        	return ResponseEntity.ok(Map.of("accessToken", newAccessToken));
+        	return switch (result.getOutcome()) {
+        		case INVALID -> authMetrics.recordRequest("refresh", "invalid", start,
+        				ResponseEntity.status(401).body("Refresh Token이 유효하지 않거나 만료되었습니다."));
+        		
+        		case NOT_FOUND -> authMetrics.recordRequest("refresh", "not_found", start,
+        				ResponseEntity.status(500).body("일치하는 리프레시 토큰 없음"));
+        		
+        		// 새로운 Access Token을 클라이언트에게 반환
+        		case SUCCESS -> authMetrics.recordRequest("refresh", "success", start,
+        				ResponseEntity.ok(Map.of("accessToken", result.getAccessToken())));
+        	};
           
         } catch (Exception e) {
-            return ResponseEntity.status(500).body("토큰 갱신 처리 중 오류가 발생했습니다.");
+            return authMetrics.recordRequest("refresh", "error", start,
+            		ResponseEntity.status(500).body("토큰 갱신 처리 중 오류가 발생했습니다."));
         }
     }
 
@@ -0,0 +1,131 @@
+package edu.kh.admin.auth.model.cache;
+
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import edu.kh.admin.auth.model.dto.RefreshToken;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Refresh Token 해시값 -> 회원 캐시 (write-through, Oracle 저장소 전용)
+ * - 토큰 저장/삭제 시 DB와 함께 갱신되므로 대부분의 /auth/refresh 요청은 DB를 조회하지 않음
+ * - 최대 크기가 제한되어 있고, 각 항목은 토큰 만료 시간이 지나면 자동으로 제거됨
+ * - 서버(JVM)마다 따로 가지는 캐시이므로 단일 서버 배포에서만 사용 (refresh-token.cache.enabled=true)
+ *   -> 여러 서버로 운영하면 한 서버의 로그아웃/재로그인이 다른 서버 캐시에서 제거되지 않아
+ *      폐기된 토큰이 만료 전까지 계속 통과하므로, 비활성화 상태(기본값)에서는 항상 DB 를 조회
+ */
+@Component
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "oracle", matchIfMissing = true)
+@Slf4j
+public class RefreshTokenCache {
+
+	// 캐시 항목 : 회원 번호/이메일 + 만료 시간(ms)
+	private record Entry(int memberNo, String memberEmail, long expiresAt) {}
+
+	private final boolean enabled;
+	private final Cache<String, Entry> cache;
+
+	// 회원 이메일 -> 캐시에 있는 토큰 해시값 (로그인/로그아웃 시 이전 토큰을 전체 순회 없이 찾기 위함)
+	private final ConcurrentHashMap<String, String> hashByEmail = new ConcurrentHashMap<>();
+
+	public RefreshTokenCache(@Value("${refresh-token.cache.enabled:false}") boolean enabled,
+			@Value("${refresh-token.cache.max-size:10000}") long maxSize) {
+		this.enabled = enabled;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				// 크기 제한/만료로 제거된 항목은 이메일 인덱스에서도 제거 (다른 토큰으로 바뀐 경우는 그대로 둠)
+				.evictionListener((String tokenHash, Entry entry, RemovalCause cause) -> {
+					if (entry != null) hashByEmail.remove(entry.memberEmail(), tokenHash);
+				})
+				.expireAfter(new Expiry<String, Entry>() {
+					// 저장 시 : 토큰 만료 시간까지만 유지
+					@Override
+					public long expireAfterCreate(String key, Entry value, long currentTime) {
+						return remainingNanos(value);
+					}
+
+					@Override
+					public long expireAfterUpdate(String key, Entry value, long currentTime, long currentDuration) {
+						return remainingNanos(value);
+					}
+
+					// 조회 시 : 남은 시간 그대로 유지
+					@Override
+					public long expireAfterRead(String key, Entry value, long currentTime, long currentDuration) {
+						return currentDuration;
+					}
+				})
+				.build();
+	}
+
+	private static long remainingNanos(Entry entry) {
+		long remainingMillis = entry.expiresAt() - System.currentTimeMillis();
+		return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+	}
+
+	/**
+	 * 토큰 저장 (같은 회원의 이전 토큰은 제거)
+	 */
+	public void put(String tokenHash, int memberNo, String memberEmail, Date expirationDate) {
+		if (!enabled) return;
+
+		// 로그인 시 MERGE로 기존 토큰이 교체되므로 캐시에서도 이전 토큰 제거
+		String previous = hashByEmail.put(memberEmail, tokenHash);
+		if (previous != null && !previous.equals(tokenHash)) cache.invalidate(previous);
+
+		cache.put(tokenHash, new Entry(memberNo, memberEmail, expirationDate.getTime()));
+	}
+
+	/**
+	 * 토큰 해시값으로 조회
+	 * @return 캐시에 없거나 만료된 경우 null
+	 */
+	public RefreshToken get(String tokenHash) {
+		if (!enabled) return null;
+
+		Entry entry = cache.getIfPresent(tokenHash);
+
+		if (entry == null || entry.expiresAt() <= System.currentTimeMillis()) {
+			return null;
+		}
+		return RefreshToken.builder()
+				.memberNo(entry.memberNo())
+				.memberEmail(entry.memberEmail())
+				.refreshTokenHash(tokenHash)
+				.expirationDate(new Date(entry.expiresAt()))
+				.build();
+	}
+
+	/**
+	 * 특정 회원의 토큰 제거 (로그아웃)
+	 */
+	public void evictByEmail(String memberEmail) {
+		String tokenHash = hashByEmail.remove(memberEmail);
+		if (tokenHash != null) cache.invalidate(tokenHash);
+	}
+
+	/**
+	 * 만료된 토큰 제거 (스케줄러에서 만료 토큰 정리 시 호출)
+	 */
+	public void evictExpired() {
+		long now = System.currentTimeMillis();
+		cache.asMap().entrySet().removeIf(e -> {
+			if (e.getValue().expiresAt() > now) return false;
+			hashByEmail.remove(e.getValue().memberEmail(), e.getKey());
+			return true;
+		});
+		cache.cleanUp();
+		log.debug("Refresh Token 캐시 정리 완료, 남은 항목 {} 개", cache.estimatedSize());
+	}
+}
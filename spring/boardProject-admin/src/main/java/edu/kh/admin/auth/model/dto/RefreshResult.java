@@ -0,0 +1,27 @@
+package edu.kh.admin.auth.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Access Token 재발급 결과
+ * - 같은 Refresh Token 으로 동시에 들어온 요청은 같은 결과(같은 Access Token)를 함께 사용
+ */
+@Getter
+@ToString(exclude = "accessToken")
+@AllArgsConstructor
+public class RefreshResult {
+
+	public enum Outcome {
+		SUCCESS,   // 재발급 완료
+		INVALID,   // 서명 불일치 / 만료
+		NOT_FOUND  // 저장된(로그아웃되지 않은) Refresh Token 없음
+	}
+
+	public static final RefreshResult INVALID = new RefreshResult(Outcome.INVALID, null);
+	public static final RefreshResult NOT_FOUND = new RefreshResult(Outcome.NOT_FOUND, null);
+
+	private final Outcome outcome;
+	private final String accessToken; // 새 Access Token (SUCCESS 인 경우만)
+}
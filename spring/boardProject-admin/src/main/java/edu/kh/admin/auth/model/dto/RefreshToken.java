@@ -0,0 +1,23 @@
+package edu.kh.admin.auth.model.dto;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Data
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken {
+
+	private int memberNo;
+	private String memberEmail;
+	private String refreshTokenHash; // SHA-256 해시값 (원본 토큰 대신 조회 키로 사용)
+	private Date expirationDate;
+	
+}
@@ -0,0 +1,30 @@
+package edu.kh.admin.auth.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 만료 리프레시 토큰 정리 1회 실행 결과
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class SweepResult {
+
+	public static final SweepResult EMPTY = new SweepResult(0, 0, 0, true, 0);
+
+	private final long deleted;        // 삭제한 토큰 수
+	private final int chunks;          // 실행한 chunk(DELETE) 수
+	private final long durationMillis; // 소요 시간(ms)
+	private final boolean drained;     // 남은 만료 토큰 없이 끝났는지 여부 (false 면 다음 실행에서 이어서 삭제)
+	private final long finishedAt;     // 종료 시각 (epoch ms)
+
+	/**
+	 * 초당 삭제 건수
+	 */
+	public double getRowsPerSecond() {
+		if (durationMillis <= 0) return deleted;
+		return deleted * 1000.0 / durationMillis;
+	}
+}
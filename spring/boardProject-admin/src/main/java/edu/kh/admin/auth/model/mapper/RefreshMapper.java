@@ -1,28 +1,26 @@
 package edu.kh.admin.auth.model.mapper;
 
-import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.Map;
 
 import org.apache.ibatis.annotations.Mapper;
 
+import edu.kh.admin.auth.model.dto.RefreshToken;
+
 @Mapper
 public interface RefreshMapper {
 
 	// Refresh Token 삽입  
     int insertRefreshToken(Map<String, Object> map);
     
-    // Refresh Token 일치 여부 조회
- 	String matchRefreshToken(String refreshToken);
+    // Refresh Token 일치 여부 조회 (토큰 해시값으로 조회)
+ 	RefreshToken matchRefreshToken(String refreshTokenHash);
 
     // 특정 사용자의 Refresh Token 삭제
  	void deleteRefreshToken(String memberEmail);
     
- 	// 만료된 토큰 삭제
- 	int deleteExpiredTokens(LocalDateTime now);
- 	
- 	 // 만료된 토큰 수를 미리 확인
-    int countExpiredTokens(LocalDateTime now);
+ 	// 만료된 토큰 삭제 (최대 limit 건씩 나누어 삭제)
+ 	int deleteExpiredTokens(Map<String, Object> paramMap);
  	
     // Refresh Token 조회
     //String findRefreshTokenByUserNo(int memberNo);
@@ -2,6 +2,9 @@ package edu.kh.admin.auth.model.service;
 
 import java.util.Date;
 
+import edu.kh.admin.auth.model.dto.RefreshResult;
+import edu.kh.admin.auth.model.dto.SweepResult;
+
 public interface AuthService {
 
 	// Refresh Token 저장
@@ -10,9 +13,12 @@ public interface AuthService {
 	// Refresh Token 일치 여부 조회
 	String matchRefreshToken(String refreshToken);
 
+	// Refresh Token 검증 + 조회 후 Access Token 재발급 (같은 토큰의 동시 요청은 한 번만 처리)
+	RefreshResult refreshAccessToken(String refreshToken);
+
 	// 이메일 일치하는 Refresh Token 삭제
 	void deleteRefreshToken(String memberEmail);
 	
-	// 만료 토큰 삭제
-	void cleanupExpiredTokens();
+	// 만료 토큰 삭제 (chunk 단위로 나누어 삭제 후 실행 결과 반환)
+	SweepResult cleanupExpiredTokens();
 }
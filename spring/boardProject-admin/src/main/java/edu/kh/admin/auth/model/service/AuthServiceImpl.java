@@ -1,76 +1,96 @@
 package edu.kh.admin.auth.model.service;
 
-import java.time.LocalDateTime;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import edu.kh.admin.auth.model.mapper.RefreshMapper;
-import lombok.RequiredArgsConstructor;
+import edu.kh.admin.auth.model.dto.RefreshResult;
+import edu.kh.admin.auth.model.dto.RefreshToken;
+import edu.kh.admin.auth.model.dto.SweepResult;
+import edu.kh.admin.auth.model.store.RefreshTokenStore;
+import edu.kh.admin.common.util.AuthMetrics;
+import edu.kh.admin.common.util.JwtUtil;
+import edu.kh.admin.common.util.SingleFlight;
+import edu.kh.admin.common.util.Utility;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
-@Transactional(rollbackFor = Exception.class)
+// 트랜잭션은 저장소(OracleRefreshTokenStore)에서 처리
+// -> 내장 저장소(refresh-token.store=embedded) 사용 시 DB 커넥션을 사용하지 않음
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AuthServiceImpl implements AuthService {
 
-	private final RefreshMapper refreshMapper;
+	private final RefreshTokenStore tokenStore;
+	private final RefreshTokenSweeper sweeper;
+	private final AuthMetrics authMetrics;
+	private final JwtUtil jwtUtil;
+
+	// Refresh Token 해시 -> 진행 중인 재발급
+	// -> 여러 탭에서 동시에 보낸 재발급 요청은 검증/조회를 한 번만 하고 같은 Access Token 을 받음
+	private final SingleFlight<String, RefreshResult> refreshFlight;
+
+	public AuthServiceImpl(RefreshTokenStore tokenStore, RefreshTokenSweeper sweeper, AuthMetrics authMetrics,
+			JwtUtil jwtUtil, MeterRegistry meterRegistry) {
+		this.tokenStore = tokenStore;
+		this.sweeper = sweeper;
+		this.authMetrics = authMetrics;
+		this.jwtUtil = jwtUtil;
+		this.refreshFlight = new SingleFlight<>("token-refresh", meterRegistry);
+	}
 
 	// Refresh Token 저장
 	@Override
 	public int saveRefreshToken(int memberNo, String memberEmail, String refreshToken, Date expirationDate) {
 
-		Map<String, Object> map = new HashMap<>();
-		map.put("memberNo", memberNo);
-		map.put("memberEmail", memberEmail);
-		map.put("refreshToken", refreshToken);
-		map.put("expirationDate", expirationDate);
-
-		return refreshMapper.insertRefreshToken(map);
+		String tokenHash = Utility.hashToken(refreshToken);
+		
+		long start = System.nanoTime();
+		try {
+			return tokenStore.save(memberNo, memberEmail, refreshToken, tokenHash, expirationDate);
+		} finally {
+			authMetrics.recordRefreshTokenSave(System.nanoTime() - start);
+		}
 
 	}
 
 	// Refresh Token 일치 여부 조회
 	@Override
 	public String matchRefreshToken(String refreshToken) {
-		return refreshMapper.matchRefreshToken(refreshToken);
+		
+		RefreshToken saved = tokenStore.findByHash(Utility.hashToken(refreshToken));
+		
+		return saved == null ? null : saved.getMemberEmail();
+	}
+
+	// Access Token 재발급
+	@Override
+	public RefreshResult refreshAccessToken(String refreshToken) {
+		return refreshFlight.execute(Utility.hashToken(refreshToken), () -> issueAccessToken(refreshToken));
+	}
+
+	// Refresh Token 검증 -> 저장 여부 조회 -> Access Token 발급 (single-flight leader 만 실행)
+	private RefreshResult issueAccessToken(String refreshToken) {
+
+		Claims claims = jwtUtil.verify(refreshToken);
+		if (claims == null) return RefreshResult.INVALID;
+
+		String memberEmail = matchRefreshToken(refreshToken);
+		if (memberEmail == null) return RefreshResult.NOT_FOUND;
+
+		return new RefreshResult(RefreshResult.Outcome.SUCCESS, jwtUtil.generateAccessToken(memberEmail));
 	}
 
 	// 이메일 일치하는 Refresh Token 삭제
 	@Override
 	public void deleteRefreshToken(String memberEmail) {
-		refreshMapper.deleteRefreshToken(memberEmail);
+		tokenStore.deleteByEmail(memberEmail);
 	}
 
-	// 만료된 리프레시 토큰 삭제
+	// 만료된 리프레시 토큰 삭제 (chunk 마다 저장소에서 따로 커밋)
 	@Override
-	public void cleanupExpiredTokens() {
-		try {
-			LocalDateTime now = LocalDateTime.now();
-
-			// 먼저 만료된 토큰 수를 확인
-			int expiredCount = refreshMapper.countExpiredTokens(now);
-			log.info("만료된 토큰 갯수 {} 개 찾음", expiredCount);
-
-			if (expiredCount > 0) {
-				// 실제 삭제 수행
-
-				int deletedCount = refreshMapper.deleteExpiredTokens(now);
-				log.info("성공 : 만료 토큰 {}개 삭제", deletedCount);
-
-				// 삭제 결과 검증
-				if (deletedCount != expiredCount) {
-					log.warn("만료된 토큰 갯수({}) 와 삭제된 갯수({}) 불일치", 
-							expiredCount, deletedCount);
-				}
-			}
-		} catch (Exception e) {
-			log.error("예외 : 만료된 리프레시 토큰 삭제 중 발생", e);
-			throw new RuntimeException("만료 토큰 삭제 중 예외 발생", e);
-		}
+	public SweepResult cleanupExpiredTokens() {
+		return sweeper.sweep();
 	}
 }
@@ -0,0 +1,148 @@
+package edu.kh.admin.auth.model.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import edu.kh.admin.auth.model.dto.SweepResult;
+import edu.kh.admin.auth.model.store.RefreshTokenStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료된 리프레시 토큰 정리기
+ * - 한 번에 최대 chunk-size 건씩 삭제 (Oracle 저장소는 chunk 마다 커밋하여 잠금/undo 를 작게 유지)
+ * - 1회 실행당 최대 max-chunks-per-run 번만 삭제하고, 남은 토큰은 다음 실행에서 이어서 삭제
+ * - 실행 결과는 refresh.token.sweep.* 메트릭으로 기록
+ */
+@Component
+@Slf4j
+public class RefreshTokenSweeper {
+
+	private final RefreshTokenStore tokenStore;
+	private final int chunkSize;
+	private final int maxChunksPerRun;
+	private final long chunkPauseMillis;
+
+	private final Counter deletedCounter;
+	private final Counter chunkCounter;
+	private final Timer runTimer;
+
+	// 마지막 실행 결과 (진행 상황 확인용)
+	private final AtomicReference<SweepResult> lastResult = new AtomicReference<>(SweepResult.EMPTY);
+
+	// 실행 중 여부 (동시에 두 번 실행되지 않도록)
+	private final AtomicBoolean running = new AtomicBoolean();
+
+	public RefreshTokenSweeper(RefreshTokenStore tokenStore, MeterRegistry meterRegistry,
+			@Value("${refresh-token.sweeper.chunk-size:1000}") int chunkSize,
+			@Value("${refresh-token.sweeper.max-chunks-per-run:20}") int maxChunksPerRun,
+			@Value("${refresh-token.sweeper.chunk-pause:50}") long chunkPauseMillis) {
+		this.tokenStore = tokenStore;
+		this.chunkSize = Math.max(1, chunkSize);
+		this.maxChunksPerRun = Math.max(1, maxChunksPerRun);
+		this.chunkPauseMillis = Math.max(0, chunkPauseMillis);
+
+		this.deletedCounter = Counter.builder("refresh.token.sweep.deleted")
+				.description("삭제된 만료 리프레시 토큰 수")
+				.register(meterRegistry);
+		this.chunkCounter = Counter.builder("refresh.token.sweep.chunks")
+				.description("실행된 만료 토큰 삭제 chunk 수")
+				.register(meterRegistry);
+		this.runTimer = Timer.builder("refresh.token.sweep.duration")
+				.description("만료 토큰 정리 1회 실행 소요 시간")
+				.register(meterRegistry);
+
+		Gauge.builder("refresh.token.sweep.last.deleted", lastResult, r -> r.get().getDeleted())
+				.description("마지막 실행에서 삭제된 토큰 수")
+				.register(meterRegistry);
+		Gauge.builder("refresh.token.sweep.last.rows.per.second", lastResult, r -> r.get().getRowsPerSecond())
+				.description("마지막 실행의 초당 삭제 건수")
+				.register(meterRegistry);
+		Gauge.builder("refresh.token.sweep.backlog", lastResult, r -> r.get().isDrained() ? 0 : 1)
+				.description("마지막 실행 후 남은 만료 토큰 존재 여부 (1 이면 다음 실행에서 이어서 삭제)")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 만료 토큰 정리 1회 실행
+	 * @return 실행 결과 (이미 실행 중이면 마지막 실행 결과)
+	 */
+	public SweepResult sweep() {
+
+		if (!running.compareAndSet(false, true)) {
+			log.debug("만료 토큰 정리가 이미 실행 중이므로 건너뜀");
+			return lastResult.get();
+		}
+
+		long start = System.nanoTime();
+		long deleted = 0;
+		int chunks = 0;
+		boolean drained = false;
+
+		try {
+			// 실행 시작 시각 기준으로 삭제 (실행 중에 만료되는 토큰은 다음 실행에서 삭제)
+			LocalDateTime now = LocalDateTime.now();
+
+			while (chunks < maxChunksPerRun) {
+
+				int count = tokenStore.deleteExpired(now, chunkSize);
+
+				chunks++;
+				deleted += count;
+				chunkCounter.increment();
+				deletedCounter.increment(count);
+
+				// chunk 크기보다 적게 지워졌으면 남은 만료 토큰 없음
+				if (count < chunkSize) {
+					drained = true;
+					break;
+				}
+
+				// 다른 요청이 잠금/IO 를 사용할 수 있도록 chunk 사이에 잠시 쉼
+				if (chunkPauseMillis > 0) {
+					TimeUnit.MILLISECONDS.sleep(chunkPauseMillis);
+				}
+			}
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("만료 토큰 정리 중단 (이미 커밋된 {}개는 삭제됨)", deleted);
+
+		} catch (Exception e) {
+			log.error("예외 : 만료된 리프레시 토큰 삭제 중 발생 (이미 커밋된 {}개는 삭제됨)", deleted, e);
+			throw new RuntimeException("만료 토큰 삭제 중 예외 발생", e);
+
+		} finally {
+			long elapsed = System.nanoTime() - start;
+			runTimer.record(elapsed, TimeUnit.NANOSECONDS);
+
+			SweepResult result = new SweepResult(deleted, chunks,
+					TimeUnit.NANOSECONDS.toMillis(elapsed), drained, System.currentTimeMillis());
+			lastResult.set(result);
+			running.set(false);
+
+			if (deleted > 0 || !drained) {
+				log.info("만료 토큰 {}개 삭제 (chunk {}회, {}ms, 초당 {}건, 남은 토큰 {})",
+						deleted, chunks, result.getDurationMillis(),
+						String.format("%.1f", result.getRowsPerSecond()), drained ? "없음" : "있음");
+			}
+		}
+
+		return lastResult.get();
+	}
+
+	/**
+	 * 마지막 실행 결과
+	 */
+	public SweepResult getLastResult() {
+		return lastResult.get();
+	}
+}
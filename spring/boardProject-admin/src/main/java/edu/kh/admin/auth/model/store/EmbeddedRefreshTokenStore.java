@@ -0,0 +1,518 @@
+package edu.kh.admin.auth.model.store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import edu.kh.admin.auth.model.dto.RefreshToken;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내장 Refresh Token 저장소 (refresh-token.store=embedded, 단일 서버 전용)
+ * - 토큰은 메모리의 기본형 배열 + 인덱스(회원 번호 -> 토큰, 토큰 해시 -> 회원)에 저장되어 DB 를 사용하지 않음
+ * - 저장/삭제는 메모리 맵 파일에 추가 전용 로그로 먼저 기록하고, 재시작 시 로그를 다시 읽어 복구
+ * - 로그에서 더 이상 유효하지 않은 레코드가 절반을 넘으면 살아있는 토큰만 새 파일로 옮겨 압축
+ *
+ * 로그 레코드 : [길이 int][CRC32C int][종류 byte][내용]
+ * - PUT    : 회원 번호 int, 만료 시간 long, 토큰 해시 32 byte, 이메일 길이 short, 이메일(UTF-8)
+ * - DELETE : 회원 번호 int
+ * - 만료로 인한 삭제는 기록하지 않음 (복구 시 만료된 토큰은 버림)
+ */
+@Component
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "embedded")
+@Slf4j
+public class EmbeddedRefreshTokenStore implements RefreshTokenStore {
+
+	private static final byte PUT = 1;
+	private static final byte DELETE = 2;
+
+	private static final int HEADER_SIZE = 8; // 길이 + CRC
+	private static final int HASH_SIZE = 32;  // SHA-256
+	private static final int DELETE_RECORD_SIZE = HEADER_SIZE + 1 + 4;
+
+	private static final HexFormat HEX = HexFormat.of().withUpperCase();
+	private static final Pattern LOG_FILE = Pattern.compile("tokens-(\\d+)\\.log");
+
+	private final Path dir;
+	private final int initialSize;
+	private final long compactMinBytes;
+	private final boolean forceOnWrite;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// 토큰 저장 칸(slot) : 같은 번호의 원소들이 토큰 하나, emails[slot] 이 null 이면 빈 칸
+	private int[] memberNos = new int[1024];
+	private long[] expiresAt = new long[1024];
+	private byte[] hashes = new byte[1024 * HASH_SIZE];
+	private String[] emails = new String[1024];
+	private int[] recordSizes = new int[1024];
+	private int slotCount;                      // 한 번이라도 사용된 칸 수
+	private int[] freeSlots = new int[64];      // 재사용할 빈 칸 번호
+	private int freeCount;
+	private int expireCursor;                   // 다음 만료 토큰 검사를 시작할 칸
+
+	private final LongIntIndex memberIndex = new LongIntIndex(1024); // 회원 번호 -> slot
+	private final LongIntIndex tokenIndex = new LongIntIndex(1024);  // 토큰 해시 앞 8 byte -> slot
+	private final Map<String, Integer> emailIndex = new HashMap<>(); // 회원 이메일 -> slot (로그아웃용)
+
+	// 현재 로그 파일
+	private long generation;
+	private FileChannel channel;
+	private MappedByteBuffer mapped;
+	private int writePos;   // 다음 레코드를 기록할 위치
+	private long liveBytes; // 살아있는 토큰의 PUT 레코드 크기 합 (writePos - liveBytes 가 압축으로 회수할 크기)
+
+	public EmbeddedRefreshTokenStore(
+			@Value("${refresh-token.embedded.dir:./data/refresh-token}") String dir,
+			@Value("${refresh-token.embedded.initial-size:16777216}") int initialSize,
+			@Value("${refresh-token.embedded.compact-min-bytes:1048576}") long compactMinBytes,
+			@Value("${refresh-token.embedded.force-on-write:false}") boolean forceOnWrite) {
+		this.dir = Paths.get(dir);
+		this.initialSize = Math.max(4096, initialSize);
+		this.compactMinBytes = compactMinBytes;
+		this.forceOnWrite = forceOnWrite;
+	}
+
+	/**
+	 * 가장 최근 로그 파일을 열어 토큰 복구 (이전 세대 파일은 삭제)
+	 */
+	@PostConstruct
+	public void open() throws IOException {
+		Files.createDirectories(dir);
+
+		long latest = 0;
+		List<Path> files;
+		try (Stream<Path> list = Files.list(dir)) {
+			files = list.toList();
+		}
+		for (Path file : files) {
+			Matcher m = LOG_FILE.matcher(file.getFileName().toString());
+			if (m.matches()) latest = Math.max(latest, Long.parseLong(m.group(1)));
+		}
+
+		// 압축 중 중단된 임시 파일, 이전 세대 파일 정리
+		for (Path file : files) {
+			String name = file.getFileName().toString();
+			if (name.equals(fileName(latest))) continue;
+			if (name.endsWith(".tmp") || LOG_FILE.matcher(name).matches()) {
+				Files.deleteIfExists(file);
+			}
+		}
+
+		lock.writeLock().lock();
+		try {
+			if (latest == 0) {
+				map(1, initialSize);
+				writePos = 0;
+			} else {
+				Path path = dir.resolve(fileName(latest));
+				map(latest, Math.max(initialSize, Files.size(path)));
+				writePos = replay();
+			}
+
+			log.info("내장 Refresh Token 저장소 로드 완료 : {} (토큰 {}개, 로그 {} bytes)",
+					dir.resolve(fileName(generation)), memberIndex.size(), writePos);
+
+			maybeCompact();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@PreDestroy
+	public void close() throws IOException {
+		lock.writeLock().lock();
+		try {
+			if (channel == null) return;
+			mapped.force();
+			channel.close();
+			channel = null;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public int save(int memberNo, String memberEmail, String refreshToken, String tokenHash, Date expirationDate) {
+
+		byte[] hash = HEX.parseHex(tokenHash);
+		byte[] email = memberEmail.getBytes(StandardCharsets.UTF_8);
+
+		lock.writeLock().lock();
+		try {
+			// 로그에 먼저 기록한 뒤 메모리에 반영
+			int recordSize = append(encodePut(memberNo, expirationDate.getTime(), hash, 0, email));
+			putInMemory(memberNo, expirationDate.getTime(), hash, memberEmail, recordSize);
+			maybeCompact();
+			return 1;
+
+		} catch (IOException e) {
+			throw new UncheckedIOException("Refresh Token 로그 기록 실패", e);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public RefreshToken findByHash(String tokenHash) {
+
+		byte[] hash;
+		try {
+			hash = HEX.parseHex(tokenHash);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+		if (hash.length != HASH_SIZE) return null;
+
+		lock.readLock().lock();
+		try {
+			int slot = tokenIndex.get(hashKey(hash, 0));
+
+			// 인덱스는 해시 앞 8 byte 만 사용하므로 전체 해시값 비교
+			if (slot == LongIntIndex.MISSING
+					|| !Arrays.equals(hashes, slot * HASH_SIZE, (slot + 1) * HASH_SIZE, hash, 0, HASH_SIZE)) {
+				return null;
+			}
+
+			return RefreshToken.builder()
+					.memberNo(memberNos[slot])
+					.memberEmail(emails[slot])
+					.refreshTokenHash(tokenHash)
+					.expirationDate(new Date(expiresAt[slot]))
+					.build();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public void deleteByEmail(String memberEmail) {
+
+		lock.writeLock().lock();
+		try {
+			Integer slot = emailIndex.get(memberEmail);
+			if (slot == null) return;
+
+			append(encodeDelete(memberNos[slot]));
+			removeSlot(slot);
+			maybeCompact();
+
+		} catch (IOException e) {
+			throw new UncheckedIOException("Refresh Token 로그 기록 실패", e);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public int deleteExpired(LocalDateTime now, int limit) {
+
+		long nowMillis = now.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+		lock.writeLock().lock();
+		try {
+			int deleted = removeExpired(nowMillis, limit);
+			maybeCompact();
+			return deleted;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// ------------------------------------------------------------------
+	// 메모리 인덱스 (모두 쓰기 잠금 안에서 호출)
+
+	private void putInMemory(int memberNo, long expires, byte[] hash, String email, int recordSize) {
+
+		// 같은 회원(번호 또는 이메일)의 이전 토큰 교체
+		int old = memberIndex.get(memberNo);
+		if (old != LongIntIndex.MISSING) removeSlot(old);
+
+		Integer oldByEmail = emailIndex.get(email);
+		if (oldByEmail != null) removeSlot(oldByEmail);
+
+		int slot = allocateSlot();
+		memberNos[slot] = memberNo;
+		expiresAt[slot] = expires;
+		System.arraycopy(hash, 0, hashes, slot * HASH_SIZE, HASH_SIZE);
+		emails[slot] = email;
+		recordSizes[slot] = recordSize;
+
+		memberIndex.put(memberNo, slot);
+		tokenIndex.put(hashKey(hash, 0), slot);
+		emailIndex.put(email, slot);
+		liveBytes += recordSize;
+	}
+
+	private void removeSlot(int slot) {
+		memberIndex.remove(memberNos[slot]);
+
+		// 해시 앞 8 byte 가 같은 다른 토큰이 인덱스를 차지한 경우는 건드리지 않음
+		long key = hashKey(hashes, slot * HASH_SIZE);
+		if (tokenIndex.get(key) == slot) tokenIndex.remove(key);
+
+		emailIndex.remove(emails[slot], slot);
+		liveBytes -= recordSizes[slot];
+		emails[slot] = null;
+
+		if (freeCount == freeSlots.length) freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+		freeSlots[freeCount++] = slot;
+	}
+
+	// 만료 토큰 삭제 : 이전 호출이 멈춘 칸부터 이어서 검사 (한 번에 최대 한 바퀴)
+	// -> chunk 단위로 반복 호출해도 매번 0번 칸부터 다시 훑지 않음
+	private int removeExpired(long nowMillis, int limit) {
+		int deleted = 0;
+		int slot = expireCursor < slotCount ? expireCursor : 0;
+
+		for (int scanned = 0; scanned < slotCount && deleted < limit; scanned++) {
+			if (emails[slot] != null && expiresAt[slot] < nowMillis) {
+				removeSlot(slot);
+				deleted++;
+			}
+			slot = slot + 1 == slotCount ? 0 : slot + 1;
+		}
+
+		expireCursor = slot;
+		return deleted;
+	}
+
+	private int allocateSlot() {
+		if (freeCount > 0) return freeSlots[--freeCount];
+
+		if (slotCount == emails.length) {
+			int capacity = slotCount * 2;
+			memberNos = Arrays.copyOf(memberNos, capacity);
+			expiresAt = Arrays.copyOf(expiresAt, capacity);
+			hashes = Arrays.copyOf(hashes, capacity * HASH_SIZE);
+			emails = Arrays.copyOf(emails, capacity);
+			recordSizes = Arrays.copyOf(recordSizes, capacity);
+		}
+		return slotCount++;
+	}
+
+	private static long hashKey(byte[] hash, int offset) {
+		return ByteBuffer.wrap(hash, offset, 8).getLong();
+	}
+
+	// ------------------------------------------------------------------
+	// 로그 파일 (모두 쓰기 잠금 안에서 호출)
+
+	private static String fileName(long generation) {
+		return String.format("tokens-%06d.log", generation);
+	}
+
+	private void map(long generation, long size) throws IOException {
+		this.channel = FileChannel.open(dir.resolve(fileName(generation)),
+				StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		this.mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+		this.generation = generation;
+	}
+
+	/**
+	 * 로그를 처음부터 읽어 메모리에 반영
+	 * @return 마지막으로 온전히 기록된 레코드의 끝 위치 (기록 도중 중단된 레코드는 버림)
+	 */
+	private int replay() {
+		CRC32C crc = new CRC32C();
+		int pos = 0;
+		boolean corrupted = false;
+
+		while (pos + HEADER_SIZE <= mapped.capacity()) {
+			int length = mapped.getInt(pos);
+			if (length == 0) break; // 로그 끝
+
+			if (length < 0 || pos + HEADER_SIZE + length > mapped.capacity()) {
+				corrupted = true;
+				break;
+			}
+
+			ByteBuffer record = mapped.slice(pos + HEADER_SIZE, length);
+			crc.reset();
+			crc.update(record.duplicate());
+
+			if ((int) crc.getValue() != mapped.getInt(pos + 4)) {
+				corrupted = true;
+				break;
+			}
+
+			apply(record, HEADER_SIZE + length);
+			pos += HEADER_SIZE + length;
+		}
+
+		// 손상된 레코드 이후 영역은 0 으로 지워 다음 기록과 섞이지 않게 함
+		if (corrupted) {
+			log.warn("Refresh Token 로그 {} 위치의 레코드가 손상되어 이후 레코드는 무시함", pos);
+			for (int i = pos; i < mapped.capacity(); i++) {
+				mapped.put(i, (byte) 0);
+			}
+		}
+
+		removeExpired(System.currentTimeMillis(), Integer.MAX_VALUE);
+		return pos;
+	}
+
+	private void apply(ByteBuffer record, int recordSize) {
+		byte type = record.get();
+
+		if (type == PUT) {
+			int memberNo = record.getInt();
+			long expires = record.getLong();
+			byte[] hash = new byte[HASH_SIZE];
+			record.get(hash);
+			byte[] email = new byte[Short.toUnsignedInt(record.getShort())];
+			record.get(email);
+
+			putInMemory(memberNo, expires, hash, new String(email, StandardCharsets.UTF_8), recordSize);
+
+		} else if (type == DELETE) {
+			int slot = memberIndex.get(record.getInt());
+			if (slot != LongIntIndex.MISSING) removeSlot(slot);
+		}
+	}
+
+	private static ByteBuffer encodePut(int memberNo, long expires, byte[] hash, int hashOffset, byte[] email) {
+		ByteBuffer buf = ByteBuffer.allocate(HEADER_SIZE + 1 + 4 + 8 + HASH_SIZE + 2 + email.length);
+		buf.position(HEADER_SIZE);
+		buf.put(PUT).putInt(memberNo).putLong(expires).put(hash, hashOffset, HASH_SIZE)
+			.putShort((short) email.length).put(email);
+		return frame(buf);
+	}
+
+	private static ByteBuffer encodeDelete(int memberNo) {
+		ByteBuffer buf = ByteBuffer.allocate(DELETE_RECORD_SIZE);
+		buf.position(HEADER_SIZE);
+		buf.put(DELETE).putInt(memberNo);
+		return frame(buf);
+	}
+
+	// 헤더(길이, CRC) 채우기
+	private static ByteBuffer frame(ByteBuffer buf) {
+		int length = buf.position() - HEADER_SIZE;
+
+		CRC32C crc = new CRC32C();
+		crc.update(buf.array(), HEADER_SIZE, length);
+
+		buf.putInt(0, length).putInt(4, (int) crc.getValue());
+		return buf.flip();
+	}
+
+	/**
+	 * 레코드를 로그 끝에 기록
+	 * @return 기록한 크기
+	 */
+	private int append(ByteBuffer record) throws IOException {
+		int size = record.remaining();
+
+		if (writePos + size > mapped.capacity()) makeRoom(size);
+
+		// 길이를 가장 마지막에 기록 -> 기록 도중 중단되면 복구 시 해당 레코드는 무시됨
+		mapped.put(writePos + 4, record, 4, size - 4);
+		mapped.putInt(writePos, record.getInt(0));
+
+		if (forceOnWrite) mapped.force(writePos, size);
+
+		writePos += size;
+		return size;
+	}
+
+	private void makeRoom(int size) throws IOException {
+
+		// 압축으로 충분한 공간을 회수할 수 있으면 압축
+		if (writePos > 0 && writePos - liveBytes >= writePos / 2) {
+			compact();
+			if (writePos + size <= mapped.capacity()) return;
+		}
+
+		// 아니면 파일 크기를 두 배로 늘려 다시 매핑
+		long capacity = Math.max((long) mapped.capacity() * 2, (long) writePos + size);
+		if (capacity > Integer.MAX_VALUE) {
+			throw new IOException("Refresh Token 로그 파일 크기 제한 초과");
+		}
+		mapped.force();
+		mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+	}
+
+	private void maybeCompact() {
+		if (writePos < compactMinBytes || writePos - liveBytes < writePos / 2) return;
+
+		try {
+			compact();
+		} catch (IOException e) {
+			// 현재 로그는 그대로 유효하므로 다음 기회에 다시 시도
+			log.error("Refresh Token 로그 압축 실패", e);
+		}
+	}
+
+	/**
+	 * 살아있는 토큰만 다음 세대 로그 파일로 옮기고 교체
+	 * - 임시 파일에 모두 기록한 뒤 이름을 바꾸므로 도중에 중단되어도 이전 파일로 복구됨
+	 */
+	private void compact() throws IOException {
+		removeExpired(System.currentTimeMillis(), Integer.MAX_VALUE);
+
+		long nextGeneration = generation + 1;
+		Path target = dir.resolve(fileName(nextGeneration));
+		Path tmp = dir.resolve(fileName(nextGeneration) + ".tmp");
+
+		int size = 0;
+		try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+			for (int slot = 0; slot < slotCount; slot++) {
+				if (emails[slot] == null) continue;
+
+				ByteBuffer record = encodePut(memberNos[slot], expiresAt[slot], hashes, slot * HASH_SIZE,
+						emails[slot].getBytes(StandardCharsets.UTF_8));
+				size += record.remaining();
+				while (record.hasRemaining()) out.write(record);
+			}
+			out.force(true);
+		}
+		Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+
+		Path oldPath = dir.resolve(fileName(generation));
+		FileChannel oldChannel = channel;
+
+		map(nextGeneration, Math.max(initialSize, (long) size * 2));
+		writePos = size;
+		liveBytes = size;
+		oldChannel.close();
+
+		try {
+			Files.deleteIfExists(oldPath);
+		} catch (IOException e) {
+			// 매핑이 해제되지 않아 삭제하지 못한 경우(Windows) 다음 시작 시 삭제됨
+			log.debug("이전 Refresh Token 로그 삭제 실패 : {}", oldPath);
+		}
+
+		log.info("Refresh Token 로그 압축 완료 : {} (토큰 {}개, {} bytes)", target, memberIndex.size(), size);
+	}
+}
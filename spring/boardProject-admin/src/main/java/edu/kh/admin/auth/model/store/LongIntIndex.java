@@ -0,0 +1,117 @@
+package edu.kh.admin.auth.model.store;
+
+import java.util.Arrays;
+
+/**
+ * long 키 -> int 값 해시 인덱스 (오픈 어드레싱, 선형 탐사)
+ * - 키/값을 기본형 배열에 그대로 저장하므로 HashMap 보다 항목당 메모리가 작고 박싱이 없음
+ * - 삭제 시 뒤따르는 항목을 앞으로 당겨(backward shift) 삭제 표시 없이 탐사 구간을 유지
+ * - 동기화하지 않음 (EmbeddedRefreshTokenStore 의 잠금 안에서만 사용)
+ */
+final class LongIntIndex {
+
+	static final int MISSING = -1;
+
+	private long[] keys;
+	private int[] values; // MISSING 이면 빈 칸
+	private int mask;
+	private int size;
+
+	LongIntIndex(int expectedSize) {
+		allocate(tableSizeFor(Math.max(16, expectedSize * 2)));
+	}
+
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @return 키가 없으면 MISSING
+	 */
+	int get(long key) {
+		for (int i = slot(key); values[i] != MISSING; i = (i + 1) & mask) {
+			if (keys[i] == key) return values[i];
+		}
+		return MISSING;
+	}
+
+	/**
+	 * @param value 0 이상
+	 */
+	void put(long key, int value) {
+		// 사용률 50% 초과 시 확장
+		if ((size + 1) * 2 > values.length) resize();
+
+		int i = slot(key);
+		for (; values[i] != MISSING; i = (i + 1) & mask) {
+			if (keys[i] == key) {
+				values[i] = value;
+				return;
+			}
+		}
+		keys[i] = key;
+		values[i] = value;
+		size++;
+	}
+
+	/**
+	 * @return 삭제된 값, 키가 없으면 MISSING
+	 */
+	int remove(long key) {
+		for (int i = slot(key); values[i] != MISSING; i = (i + 1) & mask) {
+			if (keys[i] == key) {
+				int old = values[i];
+				shiftBack(i);
+				size--;
+				return old;
+			}
+		}
+		return MISSING;
+	}
+
+	void clear() {
+		Arrays.fill(values, MISSING);
+		size = 0;
+	}
+
+	// 빈 칸(gap) 뒤의 항목 중 원래 위치(home)에서 gap 까지 탐사 구간이 이어지는 항목을 당겨옴
+	private void shiftBack(int gap) {
+		for (int i = (gap + 1) & mask; values[i] != MISSING; i = (i + 1) & mask) {
+			int home = slot(keys[i]);
+			if (((i - home) & mask) >= ((i - gap) & mask)) {
+				keys[gap] = keys[i];
+				values[gap] = values[i];
+				gap = i;
+			}
+		}
+		values[gap] = MISSING;
+	}
+
+	private void resize() {
+		long[] oldKeys = keys;
+		int[] oldValues = values;
+
+		allocate(oldValues.length * 2);
+
+		for (int i = 0; i < oldValues.length; i++) {
+			if (oldValues[i] != MISSING) put(oldKeys[i], oldValues[i]);
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new int[capacity];
+		Arrays.fill(values, MISSING);
+		mask = capacity - 1;
+		size = 0;
+	}
+
+	private int slot(long key) {
+		// 피보나치 해싱으로 상위 비트를 섞어서 사용
+		return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+	}
+
+	private static int tableSizeFor(int n) {
+		return Integer.highestOneBit(n - 1) << 1;
+	}
+}
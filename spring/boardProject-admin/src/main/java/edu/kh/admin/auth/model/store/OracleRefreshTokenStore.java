@@ -0,0 +1,97 @@
+package edu.kh.admin.auth.model.store;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import edu.kh.admin.auth.model.cache.RefreshTokenCache;
+import edu.kh.admin.auth.model.dto.RefreshToken;
+import edu.kh.admin.auth.model.mapper.RefreshMapper;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * TB_REFRESH_TOKEN 테이블 기반 저장소 (기본값)
+ * - 조회는 캐시 -> DB 순서, 저장/삭제 시 캐시도 함께 갱신 (write-through)
+ *   (캐시는 refresh-token.cache.enabled=true 인 단일 서버 배포에서만 사용, 아니면 항상 DB 조회)
+ */
+@Component
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "oracle", matchIfMissing = true)
+@Transactional(rollbackFor = Exception.class)
+@RequiredArgsConstructor
+public class OracleRefreshTokenStore implements RefreshTokenStore {
+
+	private final RefreshMapper refreshMapper;
+	private final RefreshTokenCache tokenCache;
+
+	@Override
+	public int save(int memberNo, String memberEmail, String refreshToken, String tokenHash, Date expirationDate) {
+
+		Map<String, Object> map = new HashMap<>();
+		map.put("memberNo", memberNo);
+		map.put("memberEmail", memberEmail);
+		map.put("refreshToken", refreshToken);
+		map.put("refreshTokenHash", tokenHash);
+		map.put("expirationDate", expirationDate);
+
+		int result = refreshMapper.insertRefreshToken(map);
+
+		// DB 저장 성공 시 캐시에도 반영 (write-through)
+		if (result > 0) {
+			tokenCache.put(tokenHash, memberNo, memberEmail, expirationDate);
+		}
+
+		return result;
+	}
+
+	// 읽기 전용 풀(복제본)은 복제 지연으로 방금 발급/삭제된 토큰을 못 보거나 로그아웃한 토큰을 볼 수 있으므로
+	// readOnly 를 지정하지 않고 클래스 기본 트랜잭션(쓰기 풀)에서 조회
+	@Override
+	public RefreshToken findByHash(String tokenHash) {
+
+		// 1. 캐시에서 먼저 조회
+		RefreshToken cached = tokenCache.get(tokenHash);
+		if (cached != null) return cached;
+
+		// 2. 캐시에 없으면 DB 조회 (해시값 유니크 인덱스 사용) 후 캐시에 적재
+		RefreshToken saved = refreshMapper.matchRefreshToken(tokenHash);
+		if (saved == null) return null;
+
+		if (saved.getExpirationDate() != null
+				&& saved.getExpirationDate().getTime() > System.currentTimeMillis()) {
+			tokenCache.put(tokenHash, saved.getMemberNo(), saved.getMemberEmail(), saved.getExpirationDate());
+		}
+
+		return saved;
+	}
+
+	@Override
+	public void deleteByEmail(String memberEmail) {
+		refreshMapper.deleteRefreshToken(memberEmail);
+		tokenCache.evictByEmail(memberEmail);
+	}
+
+	// chunk 마다 커밋되도록 항상 새 트랜잭션에서 실행
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = Exception.class)
+	public int deleteExpired(LocalDateTime now, int limit) {
+
+		Map<String, Object> paramMap = new HashMap<>();
+		paramMap.put("now", now);
+		paramMap.put("limit", limit);
+
+		int deleted = refreshMapper.deleteExpiredTokens(paramMap);
+
+		// 남은 만료 토큰이 없으면 캐시에 남아있는 만료 토큰도 정리
+		if (deleted < limit) {
+			tokenCache.evictExpired();
+		}
+
+		return deleted;
+	}
+}
@@ -0,0 +1,26 @@
+package edu.kh.admin.auth.model.store;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+
+import edu.kh.admin.auth.model.dto.RefreshToken;
+
+/**
+ * Refresh Token 저장소
+ * - refresh-token.store=oracle   (기본값) : TB_REFRESH_TOKEN 테이블 + 캐시
+ * - refresh-token.store=embedded          : 메모리 인덱스 + 메모리 맵 파일 로그 (단일 서버 전용)
+ */
+public interface RefreshTokenStore {
+
+	// 회원의 Refresh Token 저장 (이전 토큰은 교체)
+	int save(int memberNo, String memberEmail, String refreshToken, String tokenHash, Date expirationDate);
+
+	// 토큰 해시값으로 조회 (없으면 null)
+	RefreshToken findByHash(String tokenHash);
+
+	// 이메일 일치하는 Refresh Token 삭제
+	void deleteByEmail(String memberEmail);
+
+	// now 이전에 만료된 토큰을 최대 limit 건 삭제 후 삭제 건수 반환
+	int deleteExpired(LocalDateTime now, int limit);
+}
@@ -1,20 +1,31 @@
 package edu.kh.admin.common.config;
 
+import java.util.Optional;
+
 import javax.sql.DataSource;
 
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.mybatis.spring.SqlSessionFactoryBean;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import edu.kh.admin.common.interceptor.MybatisMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 @PropertySource("classpath:/config.properties")
@@ -23,6 +34,7 @@ public class DBConfig {
 	@Autowired 
 	private ApplicationContext applicationContext;
 	
+	// 쓰기(기본) 풀 설정
 	@Bean
 	@ConfigurationProperties(prefix="spring.datasource.hikari")
 	public HikariConfig hikariConfig() {
@@ -30,14 +42,75 @@ public class DBConfig {
 		return new HikariConfig();
 	}
 	
+	// 읽기 전용 풀 설정 (jdbc-url 등 접속 정보를 지정하지 않으면 쓰기 DB 접속 정보 사용)
+	@Bean
+	@ConfigurationProperties(prefix="spring.datasource.read.hikari")
+	public HikariConfig readHikariConfig() {
+		
+		return new HikariConfig();
+	}
+	
+	/**
+	 * 쓰기 풀 : 로그인, 복구, 계정 생성 등 읽기 전용이 아닌 트랜잭션
+	 */
+	@Bean(destroyMethod = "close")
+	public HikariDataSource writeDataSource(@Qualifier("hikariConfig") HikariConfig config, 
+			MeterRegistry meterRegistry) {
+		
+		if(config.getPoolName() == null) config.setPoolName("write");
+		
+		// 커넥션 대기 시간(hikaricp.connections.acquire), 사용/대기 중인 커넥션 수 등을 메트릭으로 기록 (pool 태그로 구분)
+		// -> mybatis.statement 메트릭과 함께 보면 느린 원인이 쿼리인지 커넥션 대기인지 구분 가능
+		config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+		
+		return new HikariDataSource(config);
+	}
+	
+	/**
+	 * 읽기 전용 풀 : @Transactional(readOnly = true) 트랜잭션 (통계 집계, 목록 조회, 내보내기)
+	 * - 복제(replica) DB 가 있으면 spring.datasource.read.hikari.jdbc-url 로 지정
+	 * - 같은 DB 를 사용하더라도 풀이 분리되어 있으므로 무거운 통계 쿼리가 로그인/복구용 커넥션을 차지하지 않음
+	 * - spring.datasource.read.enabled=false 이면 만들지 않고 모든 트랜잭션이 쓰기 풀 사용
+	 */
+	@Bean(destroyMethod = "close")
+	@ConditionalOnProperty(name = "spring.datasource.read.enabled", havingValue = "true", matchIfMissing = true)
+	public HikariDataSource readDataSource(@Qualifier("readHikariConfig") HikariConfig readConfig,
+			@Qualifier("hikariConfig") HikariConfig writeConfig, MeterRegistry meterRegistry) {
+		
+		if(readConfig.getJdbcUrl() == null) {
+			readConfig.setJdbcUrl(writeConfig.getJdbcUrl());
+			readConfig.setUsername(writeConfig.getUsername());
+			readConfig.setPassword(writeConfig.getPassword());
+			readConfig.setDriverClassName(writeConfig.getDriverClassName());
+		}
+		
+		if(readConfig.getPoolName() == null) readConfig.setPoolName("read");
+		
+		readConfig.setReadOnly(true);
+		readConfig.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+		
+		return new HikariDataSource(readConfig);
+	}
+	
+	/**
+	 * 애플리케이션에서 사용하는 DataSource
+	 * - 트랜잭션 시작 시점에는 커넥션을 가져오지 않고, 첫 SQL 실행 시점에
+	 *   읽기 전용 트랜잭션이면 읽기 풀, 아니면 쓰기 풀에서 가져옴
+	 */
 	@Bean
-	public DataSource dataSource(HikariConfig config) {
-		DataSource dataSource = new HikariDataSource(config);
+	@Primary
+	public DataSource dataSource(@Qualifier("writeDataSource") DataSource writeDataSource,
+			@Qualifier("readDataSource") Optional<DataSource> readDataSource) {
+		
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(writeDataSource);
+		readDataSource.ifPresent(dataSource::setReadOnlyDataSource);
+		
 		return dataSource;
 	}
 	
 	@Bean
-	public SqlSessionFactory sessionFactory(DataSource dataSource) throws Exception {
+	public SqlSessionFactory sessionFactory(DataSource dataSource, 
+			MybatisMetricsInterceptor metricsInterceptor) throws Exception {
 		
 		SqlSessionFactoryBean sessionFactoryBean = new SqlSessionFactoryBean();
 	
@@ -53,15 +126,29 @@ public class DBConfig {
 					applicationContext.getResource("classpath:/mybatis-config.xml")
 				);
 		
+		// 구문별 실행 시간/행 수/오류 수 측정
+		sessionFactoryBean.setPlugins(metricsInterceptor);
+		
 		return sessionFactoryBean.getObject();
 		
 	}
 	
 	@Bean
+	@Primary
 	public SqlSessionTemplate sqlSessionTemplate(SqlSessionFactory sessionFactory) {
 		return new SqlSessionTemplate(sessionFactory);
 	}
 	
+	/**
+	 * JDBC 배치 실행용 SqlSessionTemplate (관리자 계정 일괄 발급 등)
+	 * - INSERT/UPDATE 를 바로 실행하지 않고 모아두었다가 flushStatements() 시 한 번에 전송
+	 * - 한 트랜잭션 안에서 기본 SqlSessionTemplate 과 섞어 쓸 수 없음 (ExecutorType 변경 불가)
+	 */
+	@Bean
+	public SqlSessionTemplate batchSqlSessionTemplate(SqlSessionFactory sessionFactory) {
+		return new SqlSessionTemplate(sessionFactory, ExecutorType.BATCH);
+	}
+	
 	@Bean
 	public DataSourceTransactionManager dataSourceTransactionManager(DataSource dataSource) {
 		return new DataSourceTransactionManager(dataSource);
@@ -0,0 +1,71 @@
+package edu.kh.admin.common.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+@Configuration
+public class HashingConfig {
+
+	/**
+	 * BCrypt 해싱 전용 스레드 풀
+	 * - CPU를 많이 사용하는 해싱 작업을 Tomcat 요청 스레드와 분리하여
+	 *   로그인이 몰려도 /admin/** 요청이 멈추지 않도록 함
+	 * - 스레드 수는 CPU 코어 수, 대기 큐는 크기 제한(가득 차면 즉시 RejectedExecutionException -> 503)
+	 * - 큐 대기 수, 활성 스레드 수 등은 executor.* 메트릭(name=hashing)으로 노출
+	 */
+	@Bean
+	public ExecutorService hashingExecutor(
+			@Value("${hashing.executor.pool-size:0}") int poolSize,
+			@Value("${hashing.executor.queue-capacity:64}") int queueCapacity,
+			MeterRegistry meterRegistry) {
+		
+		// 0 이하로 설정된 경우 CPU 코어 수 사용
+		int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+		
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(
+				threads, threads, 
+				0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				new CustomizableThreadFactory("hashing-"),
+				new ThreadPoolExecutor.AbortPolicy()); // 큐가 가득 차면 즉시 거절
+		
+		new ExecutorServiceMetrics(executor, "hashing", Tags.empty()).bindTo(meterRegistry);
+		
+		return executor;
+	}
+	
+	/**
+	 * 로그인 후처리(토큰 발급 + Refresh Token 저장) 전용 스레드 풀
+	 * - BCrypt 검증이 끝난 뒤의 JWT 서명, TB_REFRESH_TOKEN MERGE(DB 왕복)를 해싱 스레드에서 분리
+	 *   -> DB 가 느려져도 해싱 스레드는 BCrypt 검증만 하므로 로그인 처리량이 줄지 않음
+	 * - 대기 큐 크기 제한 (가득 차면 해당 로그인만 503)
+	 */
+	@Bean
+	public ExecutorService loginExecutor(
+			@Value("${login.executor.pool-size:8}") int poolSize,
+			@Value("${login.executor.queue-capacity:128}") int queueCapacity,
+			MeterRegistry meterRegistry) {
+		
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(
+				poolSize, poolSize, 
+				0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				new CustomizableThreadFactory("login-"),
+				new ThreadPoolExecutor.AbortPolicy());
+		
+		new ExecutorServiceMetrics(executor, "login", Tags.empty()).bindTo(meterRegistry);
+		
+		return executor;
+	}
+}
@@ -0,0 +1,22 @@
+package edu.kh.admin.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+@Configuration
+public class JacksonConfig {
+
+	/**
+	 * Blackbird 모듈
+	 * - getter/record 접근자 호출을 리플렉션 대신 LambdaMetafactory 로 만든 람다로 수행하여 직렬화 속도 개선
+	 * - Spring Boot 가 Module 타입 빈을 자동으로 ObjectMapper 에 등록
+	 * - null 필드 생략은 spring.jackson.default-property-inclusion=non_null 로 설정
+	 */
+	@Bean
+	public Module blackbirdModule() {
+		return new BlackbirdModule();
+	}
+}
@@ -0,0 +1,34 @@
+package edu.kh.admin.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class SchedulingConfig {
+
+	/**
+	 * @Scheduled 작업 실행용 스케줄러
+	 * - 기본 스케줄러는 스레드가 1개라서 오래 걸리는 작업(통계 스냅샷 join, chunk 사이에 쉬는 만료 토큰 정리)이
+	 *   관리자 계정 사전 적재, 로그인 제한 버킷 정리 등 다른 작업을 늦춤
+	 *   -> 작업 수만큼 스레드를 두어 서로 기다리지 않도록 함
+	 * - 가상 스레드 모드의 기본 스케줄러(SimpleAsyncTaskScheduler)도 fixedDelay 작업은 스레드 1개에서 실행하므로
+	 *   두 모드 모두 이 스케줄러 사용 (가상 스레드 모드에서는 작업을 가상 스레드로 실행)
+	 */
+	@Bean
+	public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:6}") int poolSize,
+			@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+		
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(poolSize);
+		scheduler.setThreadNamePrefix("scheduling-");
+		scheduler.setVirtualThreads(virtualThreads);
+		
+		// 종료 시 실행 중인 작업(토큰 정리 chunk 등)이 끝날 때까지 잠시 대기
+		scheduler.setWaitForTasksToCompleteOnShutdown(true);
+		scheduler.setAwaitTerminationSeconds(10);
+		
+		return scheduler;
+	}
+}
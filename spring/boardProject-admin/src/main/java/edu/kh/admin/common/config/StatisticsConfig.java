@@ -0,0 +1,42 @@
+package edu.kh.admin.common.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+@Configuration
+public class StatisticsConfig {
+
+	/**
+	 * 통계 집계 쿼리 병렬 실행용 스레드 풀
+	 * - 최대 조회/좋아요/댓글 수, 신규 회원 조회를 동시에 실행
+	 * - 스레드 수와 대기 큐 크기를 제한하여 통계 쿼리가 커넥션 풀을 모두 차지하지 않도록 함
+	 */
+	@Bean
+	public ExecutorService statisticsExecutor(
+			@Value("${statistics.executor.pool-size:4}") int poolSize,
+			@Value("${statistics.executor.queue-capacity:32}") int queueCapacity,
+			MeterRegistry meterRegistry) {
+		
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(
+				poolSize, poolSize, 
+				0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				new CustomizableThreadFactory("statistics-"),
+				new ThreadPoolExecutor.AbortPolicy()); // 큐가 가득 차면 해당 항목만 실패 처리
+		
+		new ExecutorServiceMetrics(executor, "statistics", Tags.empty()).bindTo(meterRegistry);
+		
+		return executor;
+	}
+}
@@ -13,6 +13,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins("http://localhost:3000")  // 허용할 출처
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")  // 허용할 HTTP 메서드
                 .allowedHeaders("*")  // 모든 헤더 허용
+                .exposedHeaders("X-Statistics-Age", "ETag")  // 클라이언트(JS)에서 읽을 수 있는 응답 헤더
                 .allowCredentials(true);  // 자격 증명 포함 허용
     }
 }
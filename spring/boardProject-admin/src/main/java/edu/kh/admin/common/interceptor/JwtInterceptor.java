@@ -4,7 +4,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+import edu.kh.admin.common.util.AuthMetrics;
 import edu.kh.admin.common.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +24,9 @@ public class JwtInterceptor implements HandlerInterceptor {
 	@Autowired
     private JwtUtil jwtUtil;
 
+	@Autowired
+    private AuthMetrics authMetrics; // 토큰 검사 결과/검증 시간 기록
+
     // 요청이 컨트롤러로 전달되기 전에 호출
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
@@ -31,6 +37,12 @@ public class JwtInterceptor implements HandlerInterceptor {
             return true;
         }
         
+        // 비동기 처리(스트리밍 응답 등) 완료 후 재진입(ASYNC dispatch)한 경우
+        // -> 최초 요청에서 이미 검증했으므로 다시 검사하지 않음 (그 사이 토큰이 만료될 수 있음)
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+        	return true;
+        }
+        
         String accessToken = request.getHeader("Authorization");
 
         // Authorization 헤더에서 'Bearer '를 제외한 토큰 추출
@@ -38,14 +50,23 @@ public class JwtInterceptor implements HandlerInterceptor {
             accessToken = accessToken.substring(7); // "Bearer " 제외한 부분
             log.debug("인터셉터 accessToken {}", accessToken);
 
-            // 토큰 유효성 검사
-            if (!jwtUtil.isTokenValid(accessToken)) {
+            // 토큰 유효성 검사 (요청당 한 번만 파싱)
+            long start = System.nanoTime();
+            Claims claims = jwtUtil.verify(accessToken);
+            authMetrics.recordToken(claims != null, System.nanoTime() - start);
+            
+            if (claims == null) {
             	//System.out.println("accessToken 유효하지 않음. 만료시간끝!");
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);  // 401 Unauthorized
                 response.getWriter().write("Invalid Access Token");
                 return false;  // 요청을 더 이상 처리하지 않음
             }
+            
+            // 검증된 Claims(subject, 만료 시간, 생성 시간)를 요청 속성에 저장
+            // -> 컨트롤러에서 토큰을 다시 파싱하지 않고 @RequestAttribute로 꺼내 사용
+            request.setAttribute(JwtUtil.CLAIMS_ATTRIBUTE, claims);
         } else {
+            authMetrics.recordTokenMissing();
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);  // 401 Unauthorized
             response.getWriter().write("Access Token is missing");
             return false;  // 요청을 더 이상 처리하지 않음
@@ -0,0 +1,135 @@
+package edu.kh.admin.common.interceptor;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MyBatis 매핑 구문(statement id)별 실행 시간 / 행 수 / 오류 수 측정 (DBConfig 에서 플러그인으로 등록)
+ * - mybatis.statement        : 실행 시간 히스토그램 (statement, command, outcome=success|error)
+ * - mybatis.statement.rows   : 조회/변경된 행 수 (Cursor 조회는 측정하지 않음)
+ * - 설정된 시간(mybatis.metrics.slow-threshold) 이상 걸린 구문은 SQL 과 파라미터 이름만 로그로 남김 (값은 기록하지 않음)
+ *
+ * 구문별 미터는 처음 실행될 때 한 번만 만들어 캐시하고,
+ * 이후에는 잠금 없이 조회/기록만 하므로 운영 환경에서 항상 켜두어도 됨
+ */
+@Component
+@Intercepts({
+	@Signature(type = Executor.class, method = "update", 
+			args = {MappedStatement.class, Object.class}),
+	@Signature(type = Executor.class, method = "query", 
+			args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+	@Signature(type = Executor.class, method = "queryCursor", 
+			args = {MappedStatement.class, Object.class, RowBounds.class})
+})
+@Slf4j
+public class MybatisMetricsInterceptor implements Interceptor {
+
+	// 구문별 미터 묶음
+	private record StatementMeters(Timer success, Timer error, DistributionSummary rows) {}
+
+	private final MeterRegistry meterRegistry;
+	private final long slowThresholdNanos;
+	private final ConcurrentMap<String, StatementMeters> meters = new ConcurrentHashMap<>();
+
+	public MybatisMetricsInterceptor(MeterRegistry meterRegistry,
+			@Value("${mybatis.metrics.slow-threshold:500}") long slowThresholdMillis) {
+		this.meterRegistry = meterRegistry;
+		this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+	}
+
+	@Override
+	public Object intercept(Invocation invocation) throws Throwable {
+
+		MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+		StatementMeters m = meters(ms);
+
+		long start = System.nanoTime();
+		Object result;
+
+		try {
+			result = invocation.proceed();
+		} catch (Throwable t) {
+			m.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			throw t;
+		}
+
+		long elapsed = System.nanoTime() - start;
+		m.success().record(elapsed, TimeUnit.NANOSECONDS);
+
+		int rows = rowCount(result);
+		if (rows >= 0) m.rows().record(rows);
+
+		if (elapsed >= slowThresholdNanos) {
+			logSlowStatement(ms, invocation.getArgs()[1], elapsed, rows);
+		}
+
+		return result;
+	}
+
+	private StatementMeters meters(MappedStatement ms) {
+		// 이미 등록된 구문은 get 만으로 조회 (ConcurrentHashMap 조회는 잠금 없음)
+		StatementMeters m = meters.get(ms.getId());
+		if (m != null) return m;
+
+		return meters.computeIfAbsent(ms.getId(), id -> {
+			String command = ms.getSqlCommandType().name().toLowerCase();
+			return new StatementMeters(
+					timer(id, command, "success"),
+					timer(id, command, "error"),
+					DistributionSummary.builder("mybatis.statement.rows")
+						.description("MyBatis 구문별 조회/변경 행 수")
+						.tag("statement", id)
+						.tag("command", command)
+						.register(meterRegistry));
+		});
+	}
+
+	private Timer timer(String id, String command, String outcome) {
+		return Timer.builder("mybatis.statement")
+				.description("MyBatis 구문별 실행 시간")
+				.tag("statement", id)
+				.tag("command", command)
+				.tag("outcome", outcome)
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+	}
+
+	private static int rowCount(Object result) {
+		if (result instanceof List<?> list) return list.size();
+		if (result instanceof Integer count) return count;
+		return -1; // Cursor : 행은 호출한 쪽에서 읽으면서 가져옴
+	}
+
+	// 바인딩된 값은 개인정보(이메일, 비밀번호 등)가 포함될 수 있으므로 파라미터 이름만 기록
+	private static void logSlowStatement(MappedStatement ms, Object parameter, long elapsedNanos, int rows) {
+		BoundSql boundSql = ms.getBoundSql(parameter);
+
+		String sql = boundSql.getSql().replaceAll("\\s+", " ").trim();
+		String params = boundSql.getParameterMappings().stream()
+				.map(pm -> pm.getProperty() + "=<redacted>")
+				.collect(Collectors.joining(", "));
+
+		log.warn("느린 SQL : {} {}ms rows={} sql=[{}] params=[{}]",
+				ms.getId(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rows, sql, params);
+	}
+}
@@ -0,0 +1,29 @@
+package edu.kh.admin.common.scheduling;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import edu.kh.admin.main.model.service.AdminDirectoryService;
+import lombok.extern.slf4j.Slf4j;
+
+@Configuration
+@Slf4j
+public class AdminDirectoryScheduler {
+
+	@Autowired
+	private AdminDirectoryService service;
+
+	// 서버 시작 시 1회 + 이후 설정된 간격(기본 1분)마다 관리자 계정 사전 다시 적재
+	// -> DB 에서 직접 추가/변경/탈퇴 처리한 관리자 계정도 이 간격 이내에 반영됨
+	//    (탈퇴/권한 회수된 계정도 이 간격 동안은 로그인 가능)
+	@Scheduled(fixedDelayString = "${admin.directory.refresh-interval:60000}")
+	public void scheduleAdminDirectoryReload() {
+		try {
+			service.reload();
+		} catch (Exception e) {
+			// 실패 시 이전 사전을 계속 사용
+			log.error("관리자 계정 사전 적재 중 예외 발생", e);
+		}
+	}
+}
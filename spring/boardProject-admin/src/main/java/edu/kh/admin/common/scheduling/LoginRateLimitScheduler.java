@@ -0,0 +1,20 @@
+package edu.kh.admin.common.scheduling;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import edu.kh.admin.common.util.LoginRateLimiter;
+
+@Configuration
+public class LoginRateLimitScheduler {
+
+	@Autowired
+	private LoginRateLimiter limiter;
+
+	// 설정된 간격(기본 1분)마다 가득 찬(한동안 로그인 시도가 없던) 버킷 제거
+	@Scheduled(fixedDelayString = "${login.rate-limit.sweep-interval:60000}")
+	public void scheduleIdleBucketEviction() {
+		limiter.evictIdle();
+	}
+}
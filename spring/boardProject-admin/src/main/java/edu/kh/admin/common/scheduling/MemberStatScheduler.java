@@ -0,0 +1,27 @@
+package edu.kh.admin.common.scheduling;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import edu.kh.admin.main.model.service.MemberStatService;
+import lombok.extern.slf4j.Slf4j;
+
+@Configuration
+@Slf4j
+public class MemberStatScheduler {
+
+	@Autowired
+	private MemberStatService service;
+
+	// 서버 시작 시 1회 + 이후 설정된 간격(기본 1분)마다 일별 회원 통계 갱신
+	// -> 지난 날짜는 처음 한 번만 마감되고, 매번 다시 계산되는 것은 오늘 통계뿐
+	@Scheduled(fixedDelayString = "${member-stat.refresh-interval:60000}")
+	public void scheduleMemberStatRefresh() {
+		try {
+			service.refresh();
+		} catch (Exception e) {
+			log.error("일별 회원 통계 갱신 중 예외 발생", e);
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package edu.kh.admin.common.scheduling;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import edu.kh.admin.main.model.service.ReferenceDataService;
+import lombok.extern.slf4j.Slf4j;
+
+@Configuration
+@Slf4j
+public class ReferenceDataScheduler {
+
+	@Autowired
+	private ReferenceDataService service;
+
+	// 서버 시작 시 1회 + 이후 설정된 간격(기본 10분)마다 게시판 종류 사전 다시 적재
+	// -> 다른 서비스에서 게시판이 추가/변경되어도 이 간격 이내에 반영됨
+	@Scheduled(fixedDelayString = "${reference-data.board-type.refresh-interval:600000}")
+	public void scheduleBoardTypeReload() {
+		try {
+			service.reloadBoardTypes();
+		} catch (Exception e) {
+			// 실패 시 이전 사전을 계속 사용
+			log.error("게시판 종류 사전 적재 중 예외 발생", e);
+		}
+	}
+}
@@ -14,8 +14,10 @@ public class RefreshTokenScheduler {
 	@Autowired
 	private AuthService service;
 
-	//@Scheduled(cron = "0,30 * * * * *") // test용
-	@Scheduled(cron = "0 0 2 * * *") // 매일 새벽 2시에 실행
+	// 새벽에 한 번에 몰아서 지우지 않고, 설정된 간격(기본 1분)마다 조금씩 나누어 삭제
+	// (1회 실행당 삭제량은 refresh-token.sweeper.chunk-size * max-chunks-per-run 이하)
+	@Scheduled(fixedDelayString = "${refresh-token.sweeper.interval:60000}", 
+			initialDelayString = "${refresh-token.sweeper.interval:60000}")
 	public void scheduleTokenCleanup() {
 		service.cleanupExpiredTokens();
 	}
@@ -0,0 +1,27 @@
+package edu.kh.admin.common.scheduling;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import edu.kh.admin.main.model.service.StatisticsService;
+import lombok.extern.slf4j.Slf4j;
+
+@Configuration
+@Slf4j
+public class StatisticsScheduler {
+
+	@Autowired
+	private StatisticsService service;
+
+	// 서버 시작 시 1회 + 이후 설정된 간격(기본 1분)마다 통계 스냅샷 재계산
+	@Scheduled(fixedDelayString = "${statistics.snapshot.refresh-interval:60000}")
+	public void scheduleStatisticsRefresh() {
+		try {
+			service.refresh().join();
+		} catch (Exception e) {
+			// 실패 원인은 StatisticsServiceImpl에서 기록됨, 이전 스냅샷을 계속 사용
+			log.debug("통계 스냅샷 갱신 실패, 이전 스냅샷 유지");
+		}
+	}
+}
@@ -0,0 +1,375 @@
+package edu.kh.admin.common.util;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import edu.kh.admin.main.model.dto.AuditEvent;
+import edu.kh.admin.main.model.mapper.AuditLogMapper;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 작업 감사 로그 (비동기 일괄 저장)
+ * - 복구/계정 발급/로그인/로그아웃 처리 스레드는 이벤트를 링 버퍼(MpscRingBuffer)에 넣기만 하고 바로 반환
+ *   -> 감사 로그 INSERT 가 요청 처리 시간에 더해지지 않음
+ * - 전용 스레드(audit-writer)가 flush-interval 마다, 또는 batch-size 만큼 쌓이면 바로 꺼내서 JDBC 배치로 저장
+ * - 트랜잭션 안에서 기록하면 커밋 후에 버퍼에 넣음 (롤백된 작업은 남기지 않음)
+ * - 버퍼가 가득 찼을 때 (overflow-policy)
+ *   DROP  : 기다리지 않고 버림
+ *   BLOCK : block-timeout 동안 빈 칸을 기다린 뒤 그래도 가득 차 있으면 버림
+ *   -> 버린 건수는 audit.events{result=dropped} 메트릭으로 확인 (로그는 drop-log-interval 마다 1번만)
+ * - 입력값(이메일 등)은 컬럼 크기에 맞게 잘라서 저장 (한 건이 길어서 배치 전체가 실패하지 않도록)
+ * - 배치 저장이 실패하면 한 건씩 다시 저장해서 실패한 건만 버림
+ * - 서버 종료 시 웹 서버가 멈춘 뒤 남은 이벤트를 모두 저장하고 종료 (최대 shutdown-timeout)
+ */
+@Component
+@Slf4j
+public class AuditLogger implements SmartLifecycle {
+
+	public enum OverflowPolicy { DROP, BLOCK }
+
+	// 버퍼가 가득 찼을 때(BLOCK) 다시 시도하기 전 대기 시간
+	private static final long BLOCK_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+	// TB_ADMIN_AUDIT_LOG 컬럼 크기 (NVARCHAR2 는 문자 수, VARCHAR2 는 byte 수)
+	private static final int ACTOR_EMAIL_CHARS = 50;
+	private static final int ACTION_BYTES = 30;
+	private static final int TARGET_TYPE_BYTES = 20;
+	private static final int TARGET_ID_CHARS = 50;
+	private static final int RESULT_BYTES = 20;
+	private static final int DETAIL_BYTES = 200;
+	private static final int CLIENT_ADDR_BYTES = 45;
+
+	private final MpscRingBuffer<AuditEvent> buffer;
+	private final SqlSessionTemplate batchSqlSession;
+	private final TransactionTemplate writeTx;
+
+	private final int batchSize;
+	private final long flushIntervalNanos;
+	private final OverflowPolicy overflowPolicy;
+	private final long blockTimeoutNanos;
+	private final long shutdownTimeoutMillis;
+	private final long dropLogIntervalNanos;
+
+	// 마지막으로 버림 로그를 남긴 시각 (System.nanoTime())
+	private final AtomicLong lastDropLog;
+
+	private volatile boolean running;
+	private volatile Thread writer;
+
+	private final Counter published;
+	private final Counter dropped;
+	private final Counter written;
+	private final Counter writeFailed;
+	private final Timer flushTimer;
+
+	public AuditLogger(@Qualifier("batchSqlSessionTemplate") SqlSessionTemplate batchSqlSession,
+			PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+			@Value("${audit.log.capacity:8192}") int capacity,
+			@Value("${audit.log.batch-size:200}") int batchSize,
+			@Value("${audit.log.flush-interval:1000}") long flushIntervalMillis,
+			@Value("${audit.log.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+			@Value("${audit.log.block-timeout:50}") long blockTimeoutMillis,
+			@Value("${audit.log.shutdown-timeout:10000}") long shutdownTimeoutMillis,
+			@Value("${audit.log.drop-log-interval:10000}") long dropLogIntervalMillis) {
+
+		this.buffer = new MpscRingBuffer<>(capacity);
+		this.batchSqlSession = batchSqlSession;
+		this.writeTx = new TransactionTemplate(transactionManager);
+		this.batchSize = Math.max(1, batchSize);
+		this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, flushIntervalMillis));
+		this.overflowPolicy = overflowPolicy;
+		this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMillis);
+		this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+		this.dropLogIntervalNanos = TimeUnit.MILLISECONDS.toNanos(dropLogIntervalMillis);
+		this.lastDropLog = new AtomicLong(System.nanoTime() - dropLogIntervalNanos);
+
+		this.published = eventCounter(meterRegistry, "published");
+		this.dropped = eventCounter(meterRegistry, "dropped");
+		this.written = writeCounter(meterRegistry, "success");
+		this.writeFailed = writeCounter(meterRegistry, "failed");
+		this.flushTimer = Timer.builder("audit.flush")
+				.description("감사 로그 배치 저장 시간")
+				.register(meterRegistry);
+		Gauge.builder("audit.queue.size", buffer, MpscRingBuffer::size)
+				.description("저장 대기 중인 감사 로그 수")
+				.register(meterRegistry);
+	}
+
+	private static Counter eventCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("audit.events")
+				.description("버퍼에 넣은(published) / 가득 차서 버린(dropped) 감사 로그 수")
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+
+	private static Counter writeCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("audit.write")
+				.description("DB 저장에 성공(success) / 실패(failed)한 감사 로그 수")
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+
+	// ------------ 기록 ------------
+
+	/**
+	 * 현재 요청의 관리자(Access Token)와 요청 주소로 감사 로그 기록
+	 * - 트랜잭션 안에서 호출하면 커밋 후 기록
+	 * @param targetId : 대상 번호/이메일 (없으면 null)
+	 */
+	public void record(String action, String targetType, Object targetId, String result, String detail) {
+
+		String actorEmail = null;
+		String clientAddr = null;
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (attributes instanceof ServletRequestAttributes servletAttributes) {
+			if (servletAttributes.getRequest().getAttribute(JwtUtil.CLAIMS_ATTRIBUTE) instanceof Claims claims) {
+				actorEmail = claims.getSubject();
+			}
+			clientAddr = servletAttributes.getRequest().getRemoteAddr();
+		}
+
+		recordAs(actorEmail, clientAddr, action, targetType, targetId, result, detail);
+	}
+
+	/**
+	 * 작업자를 직접 지정해서 감사 로그 기록 (로그인/로그아웃 등 Access Token 이 없는 요청, 요청 스레드가 아닌 곳)
+	 */
+	public void recordAs(String actorEmail, String clientAddr, String action, String targetType, Object targetId,
+			String result, String detail) {
+
+		AuditEvent event = new AuditEvent(LocalDateTime.now(),
+				limitChars(actorEmail, ACTOR_EMAIL_CHARS),
+				limitBytes(action, ACTION_BYTES),
+				limitBytes(targetType, TARGET_TYPE_BYTES),
+				limitChars(targetId == null ? null : String.valueOf(targetId), TARGET_ID_CHARS),
+				limitBytes(result, RESULT_BYTES),
+				limitBytes(detail, DETAIL_BYTES),
+				limitBytes(clientAddr, CLIENT_ADDR_BYTES));
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					publish(event);
+				}
+			});
+			return;
+		}
+
+		publish(event);
+	}
+
+	// 버퍼에 넣기 (가득 찬 경우 정책에 따라 버리거나 잠시 대기)
+	private void publish(AuditEvent event) {
+
+		boolean offered = buffer.offer(event);
+
+		if (!offered && overflowPolicy == OverflowPolicy.BLOCK) {
+			long deadline = System.nanoTime() + blockTimeoutNanos;
+
+			while (!offered && deadline - System.nanoTime() > 0) {
+				wakeWriter();
+				LockSupport.parkNanos(this, BLOCK_BACKOFF_NANOS);
+				offered = buffer.offer(event);
+			}
+		}
+
+		if (!offered) {
+			dropped.increment();
+			logDropped();
+			return;
+		}
+
+		published.increment();
+
+		// 한 번에 저장할 만큼 쌓였으면 주기를 기다리지 않고 저장
+		if (buffer.size() >= batchSize) wakeWriter();
+	}
+
+	// 버릴 때마다 로그를 남기면 부하가 몰릴 때 로그까지 쌓이므로 drop-log-interval 마다 누적 건수만 기록
+	private void logDropped() {
+		long now = System.nanoTime();
+		long last = lastDropLog.get();
+
+		if (now - last >= dropLogIntervalNanos && lastDropLog.compareAndSet(last, now)) {
+			log.warn("감사 로그 버퍼가 가득 차서 버리는 중 (누적 {} 건)", (long) dropped.count());
+		}
+	}
+
+	// 컬럼 크기(문자 수)에 맞게 자르기 (서로게이트 쌍은 나누지 않음)
+	private static String limitChars(String value, int maxChars) {
+		if (value == null || value.length() <= maxChars) return value;
+
+		int end = Character.isHighSurrogate(value.charAt(maxChars - 1)) ? maxChars - 1 : maxChars;
+		return value.substring(0, end);
+	}
+
+	// 컬럼 크기(UTF-8 byte 수)에 맞게 자르기 (문자 중간에서 자르지 않음)
+	private static String limitBytes(String value, int maxBytes) {
+		if (value == null || value.length() * 3 <= maxBytes) return value;
+
+		int bytes = 0;
+		int end = 0;
+
+		while (end < value.length()) {
+			int codePoint = value.codePointAt(end);
+			int size = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+
+			if (bytes + size > maxBytes) return value.substring(0, end);
+
+			bytes += size;
+			end += Character.charCount(codePoint);
+		}
+
+		return value;
+	}
+
+	private void wakeWriter() {
+		Thread current = writer;
+		if (current != null) LockSupport.unpark(current);
+	}
+
+	// ------------ 저장 (audit-writer 스레드) ------------
+
+	private void runWriter() {
+
+		while (running) {
+			LockSupport.parkNanos(this, flushIntervalNanos);
+			flush();
+		}
+
+		// 종료 : 남은 이벤트 모두 저장
+		flush();
+	}
+
+	// 버퍼가 빌 때까지 batchSize 씩 꺼내서 저장
+	private void flush() {
+
+		List<AuditEvent> batch = new ArrayList<>(batchSize);
+
+		while (buffer.drainTo(batch, batchSize) > 0) {
+			write(batch);
+			batch.clear();
+		}
+	}
+
+	// 한 트랜잭션에서 JDBC 배치 INSERT
+	// -> 실패하면 한 건씩 다시 저장하고, 그래도 실패한 건만 버림 (다시 시도하며 버퍼를 막지 않음)
+	private void write(List<AuditEvent> batch) {
+
+		long start = System.nanoTime();
+
+		try {
+			insert(batch);
+			written.increment(batch.size());
+
+		} catch (Exception e) {
+			log.warn("감사 로그 {} 건 배치 저장 실패, 한 건씩 다시 저장 : {}", batch.size(), e.toString());
+			writeEach(batch);
+
+		} finally {
+			flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private void writeEach(List<AuditEvent> batch) {
+
+		int failed = 0;
+		Exception firstError = null;
+
+		for (AuditEvent event : batch) {
+			try {
+				insert(List.of(event));
+				written.increment();
+
+			} catch (Exception e) {
+				failed++;
+				if (firstError == null) firstError = e;
+			}
+		}
+
+		if (failed > 0) {
+			writeFailed.increment(failed);
+			log.error("감사 로그 {} 건 중 {} 건 저장 실패", batch.size(), failed, firstError);
+		}
+	}
+
+	private void insert(List<AuditEvent> events) {
+		writeTx.executeWithoutResult(status -> {
+			AuditLogMapper batchMapper = batchSqlSession.getMapper(AuditLogMapper.class);
+
+			for (AuditEvent event : events) {
+				batchMapper.insertAuditLog(event);
+			}
+
+			batchSqlSession.flushStatements();
+		});
+	}
+
+	// ------------ 생명 주기 ------------
+
+	@Override
+	public void start() {
+		running = true;
+		writer = Thread.ofPlatform().name("audit-writer").daemon(true).start(this::runWriter);
+	}
+
+	@Override
+	public void stop() {
+
+		running = false;
+
+		Thread current = writer;
+		if (current == null) return;
+
+		LockSupport.unpark(current);
+
+		try {
+			current.join(shutdownTimeoutMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		if (current.isAlive()) {
+			log.warn("감사 로그 저장이 {}ms 안에 끝나지 않음 (남은 {} 건)", shutdownTimeoutMillis, buffer.size());
+		}
+
+		writer = null;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	// 웹 서버(graceful shutdown 포함)가 멈춘 뒤에 종료되도록 더 낮은 단계 사용
+	// -> 종료 직전까지 처리된 요청의 감사 로그도 저장되고, DataSource 는 그 이후에 닫힘
+	@Override
+	public int getPhase() {
+		return SmartLifecycle.DEFAULT_PHASE - 4096;
+	}
+}
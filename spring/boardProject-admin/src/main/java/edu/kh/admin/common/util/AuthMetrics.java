@@ -0,0 +1,101 @@
+package edu.kh.admin.common.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 인증 경로 메트릭
+ * - auth.token          : JwtInterceptor 의 Access Token 검사 결과 (outcome=accepted|invalid|missing)
+ * - auth.token.verify   : Access Token 파싱 + 서명/만료 검증 시간
+ * - auth.request        : /auth/login, /auth/refresh, /auth/logout 처리 시간 (endpoint, outcome)
+ * - auth.refresh-token.save : Refresh Token 저장(MERGE) 시간
+ * 요청 수(rate)는 각 Timer 의 count 로 확인 (관리 포트의 /actuator/prometheus)
+ */
+@Component
+public class AuthMetrics {
+
+	private final MeterRegistry meterRegistry;
+
+	private final Counter tokenAccepted;
+	private final Counter tokenInvalid;
+	private final Counter tokenMissing;
+	private final Timer verifyTimer;
+	private final Timer refreshTokenSaveTimer;
+
+	// (endpoint, outcome) 별 auth.request Timer : 요청마다 builder/register 로 레지스트리를 조회하지 않도록 보관
+	private final Map<String, Timer> requestTimers = new ConcurrentHashMap<>();
+
+	public AuthMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+		this.tokenAccepted = tokenCounter("accepted");
+		this.tokenInvalid = tokenCounter("invalid");
+		this.tokenMissing = tokenCounter("missing");
+		this.verifyTimer = Timer.builder("auth.token.verify")
+				.description("Access Token 파싱/검증 시간")
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+		this.refreshTokenSaveTimer = Timer.builder("auth.refresh-token.save")
+				.description("Refresh Token 저장(MERGE) 시간")
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+	}
+
+	private Counter tokenCounter(String outcome) {
+		return Counter.builder("auth.token")
+				.description("Access Token 검사 결과")
+				.tag("outcome", outcome)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Access Token 검사 결과 기록
+	 * @param claimsValid 검증 성공 여부
+	 * @param verifyNanos 파싱/검증 소요 시간
+	 */
+	public void recordToken(boolean claimsValid, long verifyNanos) {
+		verifyTimer.record(verifyNanos, TimeUnit.NANOSECONDS);
+		(claimsValid ? tokenAccepted : tokenInvalid).increment();
+	}
+
+	/**
+	 * Authorization 헤더 없음
+	 */
+	public void recordTokenMissing() {
+		tokenMissing.increment();
+	}
+
+	/**
+	 * Refresh Token 저장 시간 기록
+	 */
+	public void recordRefreshTokenSave(long nanos) {
+		refreshTokenSaveTimer.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * 인증 요청 처리 시간 기록 후 응답을 그대로 반환
+	 * @param endpoint login | refresh | logout
+	 * @param outcome 처리 결과 (success, unauthorized, error 등)
+	 * @param startNanos 요청 처리 시작 시각 (System.nanoTime())
+	 */
+	public <T> T recordRequest(String endpoint, String outcome, long startNanos, T response) {
+		requestTimer(endpoint, outcome).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+		return response;
+	}
+
+	private Timer requestTimer(String endpoint, String outcome) {
+		return requestTimers.computeIfAbsent(endpoint + ':' + outcome, key ->
+				Timer.builder("auth.request")
+					.description("인증 요청 처리 시간")
+					.tag("endpoint", endpoint)
+					.tag("outcome", outcome)
+					.publishPercentileHistogram()
+					.register(meterRegistry));
+	}
+}
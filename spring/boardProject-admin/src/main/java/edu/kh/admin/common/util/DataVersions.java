@@ -0,0 +1,86 @@
+package edu.kh.admin.common.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 관리자 조회 데이터 버전 (조건부 GET 의 ETag 값)
+ * - 이 서버에서 데이터를 바꾸는 작업(복구, 관리자 계정 발급)은 커밋 후 해당 데이터의 세대(generation)를 올림
+ * - 회원 탈퇴, 게시글 삭제, 신규 가입은 사용자 서비스에서 일어나므로 세대만으로는 알 수 없음
+ *   -> 시간 구간(etag.external-change-window) 번호를 함께 넣어 구간이 바뀌면 ETag 도 바뀌게 함
+ *      (외부 변경은 늦어도 구간 길이 이내에 반영)
+ * - 서버 시작 시각을 포함하므로 재시작 후 이전 ETag 와 겹치지 않음
+ */
+@Component
+public class DataVersions {
+
+	public enum Kind {
+		WITHDRAWN_MEMBERS("wm"),
+		DELETED_BOARDS("db"),
+		NEW_MEMBERS("nm"),
+		ADMIN_ACCOUNTS("aa");
+
+		private final String tag;
+
+		Kind(String tag) {
+			this.tag = tag;
+		}
+	}
+
+	private final AtomicLongArray generations = new AtomicLongArray(Kind.values().length);
+
+	private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+	private final long windowMillis;
+
+	public DataVersions(@Value("${etag.external-change-window:30000}") long windowMillis) {
+		this.windowMillis = Math.max(1, windowMillis);
+	}
+
+	/**
+	 * 데이터 변경 알림
+	 * - 트랜잭션 안에서 호출되면 커밋 후에 세대를 올림
+	 *   (커밋 전에 올리면 동시에 조회한 이전 데이터가 새 ETag 로 캐시될 수 있음, 롤백 시에는 올리지 않음)
+	 */
+	public void bump(Kind kind) {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					generations.incrementAndGet(kind.ordinal());
+				}
+			});
+			return;
+		}
+
+		generations.incrementAndGet(kind.ordinal());
+	}
+
+	/**
+	 * 데이터 종류별 현재 ETag
+	 */
+	public String etag(Kind kind) {
+		return quote(kind.tag + "-" + generations.get(kind.ordinal()) + "-" + window());
+	}
+
+	/**
+	 * 메모리 스냅샷 ETag (스냅샷 계산 시각 등 이미 버전 역할을 하는 값 사용)
+	 * @param withWindow : 스냅샷 외에 DB 에서 직접 조회하는 항목이 함께 응답되면 true
+	 */
+	public String etag(String tag, long version, boolean withWindow) {
+		return quote(tag + "-" + version + (withWindow ? "-" + window() : ""));
+	}
+
+	private long window() {
+		return System.currentTimeMillis() / windowMillis;
+	}
+
+	private String quote(String value) {
+		return "\"" + epoch + "-" + value + "\"";
+	}
+}
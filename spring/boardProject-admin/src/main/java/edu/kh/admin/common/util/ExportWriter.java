@@ -0,0 +1,123 @@
+package edu.kh.admin.common.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import edu.kh.admin.main.model.dto.ExportFormat;
+
+/**
+ * 조회 결과를 한 행씩 NDJSON / CSV 로 출력
+ * - 행을 모아두지 않고 바로 출력하므로 행 수와 관계없이 메모리 사용량이 일정함
+ * - 출력 중 클라이언트 연결이 끊기면 IOException이 발생하여 조회가 중단됨
+ */
+public class ExportWriter<T> implements AutoCloseable {
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+	private static final int FLUSH_INTERVAL = 1000; // 1000행마다 클라이언트로 전송
+
+	private final ExportFormat format;
+	private final String[] columns;
+	private final Function<T, Object[]> valueExtractor;
+	private final Writer writer;
+	private final JsonGenerator json;
+	private long rowCount;
+
+	/**
+	 * @param columns 출력할 컬럼명 (NDJSON 필드명, CSV 헤더)
+	 * @param valueExtractor 행 -> 컬럼 값 배열 (columns 순서와 동일)
+	 */
+	public ExportWriter(ExportFormat format, String[] columns, Function<T, Object[]> valueExtractor,
+			OutputStream out) throws IOException {
+		this.format = format;
+		this.columns = columns;
+		this.valueExtractor = valueExtractor;
+		this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+		if (format == ExportFormat.NDJSON) {
+			this.json = JSON_FACTORY.createGenerator(writer)
+					.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)      // 응답 스트림은 컨테이너가 닫음
+					.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM); // 행마다 네트워크로 flush 하지 않음
+			this.json.setRootValueSeparator(null); // 줄바꿈은 직접 출력
+			
+		} else {
+			this.json = null;
+			writer.write('\uFEFF'); // UTF-8 BOM (엑셀에서 한글 깨짐 방지)
+			writeCsvLine(columns);
+		}
+	}
+
+	/**
+	 * 한 행 출력
+	 */
+	public void write(T row) throws IOException {
+		Object[] values = valueExtractor.apply(row);
+
+		if (json != null) {
+			json.writeStartObject();
+			for (int i = 0; i < columns.length; i++) {
+				json.writeFieldName(columns[i]);
+				json.writeObject(values[i]);
+			}
+			json.writeEndObject();
+			json.flush();
+			writer.write('\n');
+			
+		} else {
+			writeCsvLine(values);
+		}
+
+		if (++rowCount % FLUSH_INTERVAL == 0) {
+			writer.flush();
+		}
+	}
+
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	// CSV 한 줄 출력 (쉼표, 따옴표, 줄바꿈이 포함된 값은 따옴표로 감쌈)
+	// -> 수식으로 해석될 수 있는 문자열(=, +, -, @, 탭, CR 로 시작)은 앞에 ' 를 붙이고 따옴표로 감쌈
+	//    (제목/닉네임/이메일 등 사용자 입력이 엑셀에서 수식으로 실행되지 않도록)
+	private void writeCsvLine(Object[] values) throws IOException {
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0) writer.write(',');
+
+			if (values[i] == null) continue;
+
+			String value = values[i].toString();
+			boolean formula = values[i] instanceof CharSequence && isFormula(value);
+			if (formula) value = "'" + value;
+
+			if (formula || value.indexOf(',') >= 0 || value.indexOf('"') >= 0 
+					|| value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+				writer.write('"');
+				writer.write(value.replace("\"", "\"\""));
+				writer.write('"');
+			} else {
+				writer.write(value);
+			}
+		}
+		writer.write("\r\n");
+	}
+
+	private static boolean isFormula(String value) {
+		if (value.isEmpty()) return false;
+
+		char first = value.charAt(0);
+		return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (json != null) json.close();
+		writer.flush();
+	}
+}
@@ -5,7 +5,9 @@ import java.util.Date;
 
 import org.springframework.stereotype.Component;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -13,9 +15,19 @@ import io.jsonwebtoken.security.Keys;
 @Component // 스프링 빈으로 등록
 public class JwtUtil {
 
+	// 검증된 Claims를 요청 속성(request attribute)으로 공유할 때 사용하는 이름
+	// -> 컨트롤러에서 @RequestAttribute(JwtUtil.CLAIMS_ATTRIBUTE) Claims claims 로 꺼내 사용
+	public static final String CLAIMS_ATTRIBUTE = "edu.kh.admin.jwt.claims";
+
 	// Secret Key (비밀 키)
     private final Key secretKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
 
+    // 토큰 파서 (불변 객체, 스레드 안전)
+    // -> 매 요청마다 parserBuilder().build()를 호출하지 않도록 한 번만 생성하여 재사용
+    private final JwtParser parser = Jwts.parserBuilder()
+            .setSigningKey(secretKey) // 비밀 키 설정
+            .build();
+
     // 토큰 만료 시간 (Access Token: 15분, Refresh Token: 7일)
     private static final long ACCESS_TOKEN_VALIDITY = 15 * 60 * 1000; // 15분
     private static final long REFRESH_TOKEN_VALIDITY = 7 * 24 * 60 * 60 * 1000; // 7일
@@ -44,14 +56,23 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * 토큰 검증 + 파싱 (서명/만료 검사를 한 번에 수행)
+     * @return 검증된 Claims (subject, 만료 시간, 생성 시간), 유효하지 않은 토큰이면 null
+     */
+    public Claims verify(String token) {
+        try {
+            return parser.parseClaimsJws(token).getBody(); // 토큰 파싱
+        } catch (JwtException | IllegalArgumentException e) {
+            return null; // 유효하지 않은 토큰
+        }
+    }
+
     /**
      * 토큰에서 사용자 이메일 추출
      */
     public String extractUserEmail(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey) // 비밀 키 설정
-                .build()
-                .parseClaimsJws(token) // 토큰 파싱
+        return parser.parseClaimsJws(token) // 토큰 파싱
                 .getBody()
                 .getSubject(); // 이메일 (Subject) 반환
     }
@@ -61,14 +82,6 @@ public class JwtUtil {
      * 토큰 유효성 검증
      */
     public boolean isTokenValid(String token) {
-        try {
-            Jwts.parserBuilder()
-                .setSigningKey(secretKey) // 비밀 키 설정
-                .build()
-                .parseClaimsJws(token); // 토큰 파싱
-            return true; // 유효한 토큰
-        } catch (JwtException | IllegalArgumentException e) {
-            return false; // 유효하지 않은 토큰
-        }
+        return verify(token) != null;
     }
 }
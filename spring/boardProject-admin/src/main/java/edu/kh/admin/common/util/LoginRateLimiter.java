@@ -0,0 +1,73 @@
+package edu.kh.admin.common.util;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * /auth/login 요청 제한
+ * - DB 조회, BCrypt 검증 전에 클라이언트 주소별 / 이메일별 버킷을 차례로 검사
+ *   -> 제한을 넘은 요청은 해싱 스레드 풀을 사용하지 않고 바로 429 응답
+ * - 주소별 제한 : 한 곳에서 여러 계정을 대입하는 공격
+ * - 이메일별 제한 : 여러 주소에서 한 계정의 비밀번호를 대입하는 공격
+ *   (키는 정규화한 이메일의 SHA-256 값 -> 아주 긴 이메일을 보내도 키 하나의 크기는 고정)
+ * - 검사 결과는 auth.login.throttle{limiter=ip|email, result=allowed|rejected} 메트릭으로 노출
+ */
+@Component
+@Slf4j
+public class LoginRateLimiter {
+
+	private final boolean enabled;
+	private final TokenBucketLimiter byAddress;
+	private final TokenBucketLimiter byEmail;
+
+	public LoginRateLimiter(MeterRegistry meterRegistry,
+			@Value("${login.rate-limit.enabled:true}") boolean enabled,
+			@Value("${login.rate-limit.ip.capacity:20}") int ipCapacity,
+			@Value("${login.rate-limit.ip.refill-period:60000}") long ipRefillPeriod,
+			@Value("${login.rate-limit.email.capacity:5}") int emailCapacity,
+			@Value("${login.rate-limit.email.refill-period:300000}") long emailRefillPeriod,
+			@Value("${login.rate-limit.max-keys:100000}") int maxKeys) {
+		this.enabled = enabled;
+		this.byAddress = new TokenBucketLimiter("ip", ipCapacity, ipRefillPeriod, maxKeys, meterRegistry);
+		this.byEmail = new TokenBucketLimiter("email", emailCapacity, emailRefillPeriod, maxKeys, meterRegistry);
+	}
+
+	/**
+	 * 로그인 시도 허용 여부 검사
+	 * @param clientAddress : 요청 주소 (프록시 뒤라면 server.forward-headers-strategy 로 실제 주소 사용)
+	 * @param memberEmail : 입력된 이메일 (null 이면 주소만 검사)
+	 * @return 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 시간(초, 1 이상)
+	 */
+	public long check(String clientAddress, String memberEmail) {
+
+		if (!enabled) return 0;
+
+		long waitNanos = byAddress.tryAcquire(clientAddress);
+
+		if (waitNanos == 0 && memberEmail != null) {
+			waitNanos = byEmail.tryAcquire(Utility.hashToken(memberEmail.trim().toLowerCase(Locale.ROOT)));
+		}
+
+		if (waitNanos == 0) return 0;
+
+		return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)); // 올림
+	}
+
+	/**
+	 * 유휴 버킷 제거 (스케줄러에서 호출)
+	 */
+	public void evictIdle() {
+		int removed = byAddress.evictIdle() + byEmail.evictIdle();
+
+		if (removed > 0) {
+			log.debug("로그인 요청 제한 유휴 버킷 {} 개 제거 (주소 {} / 이메일 {} 개 추적 중)",
+					removed, byAddress.size(), byEmail.size());
+		}
+	}
+}
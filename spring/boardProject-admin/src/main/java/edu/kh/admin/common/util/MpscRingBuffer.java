@@ -0,0 +1,118 @@
+package edu.kh.admin.common.util;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 크기가 고정된 다중 생산자 / 단일 소비자(MPSC) 링 버퍼 (잠금 없음)
+ * - 칸마다 순번(sequence)을 두고, 생산자는 tail 을 CAS 로 하나씩 차지한 뒤 값을 쓰고 순번을 올려 공개
+ *   소비자는 순번이 공개된 칸만 꺼내고 순번을 한 바퀴 뒤로 돌려 빈 칸으로 만듦
+ * - 가득 차면 offer() 는 기다리지 않고 false 반환 (대기/버림은 호출한 쪽 정책으로 처리)
+ * - poll() / drainTo() 는 한 스레드에서만 호출해야 함
+ */
+public class MpscRingBuffer<E> {
+
+	private final int capacity;
+	private final int mask;
+	private final AtomicReferenceArray<E> slots;
+	private final AtomicLongArray sequences;
+
+	private final AtomicLong tail = new AtomicLong(); // 다음에 쓸 위치 (생산자)
+	private volatile long head;                       // 다음에 읽을 위치 (소비자 전용, size() 용으로 volatile)
+
+	/**
+	 * @param requestedCapacity : 2의 거듭제곱으로 올림
+	 */
+	public MpscRingBuffer(int requestedCapacity) {
+
+		if (requestedCapacity < 2 || requestedCapacity > (1 << 30)) {
+			throw new IllegalArgumentException("capacity 는 2 ~ 2^30 사이여야 합니다 : " + requestedCapacity);
+		}
+
+		this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+		this.mask = capacity - 1;
+		this.slots = new AtomicReferenceArray<>(capacity);
+		this.sequences = new AtomicLongArray(capacity);
+
+		for (int i = 0; i < capacity; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+	/**
+	 * 값 추가 (여러 스레드에서 동시에 호출 가능)
+	 * @return 가득 차서 추가하지 못하면 false
+	 */
+	public boolean offer(E value) {
+
+		if (value == null) throw new NullPointerException();
+
+		while (true) {
+			long position = tail.get();
+			int index = (int) position & mask;
+			long diff = sequences.get(index) - position;
+
+			if (diff == 0) {
+				// 빈 칸 -> 차지한 생산자만 값을 씀
+				if (tail.compareAndSet(position, position + 1)) {
+					slots.set(index, value);
+					sequences.set(index, position + 1); // 소비자에게 공개
+					return true;
+				}
+
+			} else if (diff < 0) {
+				// 한 바퀴 전 값을 소비자가 아직 꺼내지 않음 -> 가득 참
+				return false;
+			}
+			// diff > 0 : 다른 생산자가 먼저 차지함 -> 다음 위치로 다시 시도
+		}
+	}
+
+	/**
+	 * 값 하나 꺼내기 (소비자 스레드 전용)
+	 * @return 비어 있거나 다음 칸을 생산자가 아직 쓰는 중이면 null
+	 */
+	public E poll() {
+
+		long position = head;
+		int index = (int) position & mask;
+
+		if (sequences.get(index) != position + 1) return null;
+
+		E value = slots.get(index);
+		slots.set(index, null);
+		sequences.set(index, position + capacity); // 다음 바퀴의 빈 칸으로 되돌림
+		head = position + 1;
+
+		return value;
+	}
+
+	/**
+	 * 최대 max 개 꺼내서 목록에 추가 (소비자 스레드 전용)
+	 * @return 꺼낸 개수
+	 */
+	public int drainTo(List<? super E> target, int max) {
+
+		int count = 0;
+		E value;
+
+		while (count < max && (value = poll()) != null) {
+			target.add(value);
+			count++;
+		}
+
+		return count;
+	}
+
+	/** 현재 들어 있는 값의 수 (근사값) */
+	public int size() {
+		long size = tail.get() - head;
+		return (int) Math.max(0, Math.min(size, capacity));
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+}
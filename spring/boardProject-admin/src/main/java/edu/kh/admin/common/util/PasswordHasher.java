@@ -0,0 +1,104 @@
+package edu.kh.admin.common.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * BCrypt 비밀번호 해싱/검증
+ * - 비동기 메서드는 해싱 전용 스레드 풀(hashingExecutor)에서 실행됨
+ * - 해싱 소요 시간은 password.hash 메트릭(operation=matches|encode)으로 기록
+ */
+@Component
+public class PasswordHasher {
+
+	private final BCryptPasswordEncoder bcrypt;
+	private final ExecutorService hashingExecutor;
+	private final Timer matchesTimer;
+	private final Timer encodeTimer;
+
+	public PasswordHasher(BCryptPasswordEncoder bcrypt, 
+			@Qualifier("hashingExecutor") ExecutorService hashingExecutor,
+			MeterRegistry meterRegistry) {
+		this.bcrypt = bcrypt;
+		this.hashingExecutor = hashingExecutor;
+		this.matchesTimer = Timer.builder("password.hash")
+				.description("BCrypt 해싱 소요 시간")
+				.tag("operation", "matches")
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+		this.encodeTimer = Timer.builder("password.hash")
+				.description("BCrypt 해싱 소요 시간")
+				.tag("operation", "encode")
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 해싱 스레드 풀에서 비밀번호 일치 여부 검사
+	 * @throws java.util.concurrent.RejectedExecutionException 해싱 스레드 풀이 포화 상태인 경우
+	 */
+	public CompletableFuture<Boolean> matchesAsync(String rawPw, String encPw) {
+		return CompletableFuture.supplyAsync(() -> matches(rawPw, encPw), hashingExecutor);
+	}
+
+	/**
+	 * 비밀번호 일치 여부 검사 (호출한 스레드에서 실행)
+	 */
+	public boolean matches(String rawPw, String encPw) {
+		Timer.Sample sample = Timer.start();
+		try {
+			return bcrypt.matches(rawPw, encPw);
+		} finally {
+			sample.stop(matchesTimer);
+		}
+	}
+
+	/**
+	 * 여러 비밀번호를 해싱 스레드 풀에서 병렬로 암호화 (관리자 계정 일괄 발급)
+	 * - parallelism 개의 작업으로 나누어 제출하므로 풀 스레드를 모두 차지하지 않고,
+	 *   남은 스레드에서 로그인 해싱이 계속 처리됨
+	 * @return rawPws 와 같은 순서의 암호화된 비밀번호
+	 * @throws java.util.concurrent.RejectedExecutionException 해싱 스레드 풀이 포화 상태인 경우
+	 */
+	public List<String> encodeAll(List<String> rawPws, int parallelism) {
+		
+		String[] encoded = new String[rawPws.size()];
+		int tasks = Math.max(1, Math.min(parallelism, encoded.length));
+		
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks];
+		
+		for (int t = 0; t < tasks; t++) {
+			int first = t;
+			// 작업 t 는 t, t + tasks, t + 2*tasks ... 번째 비밀번호 담당
+			futures[t] = CompletableFuture.runAsync(() -> {
+				for (int i = first; i < encoded.length; i += tasks) {
+					encoded[i] = encode(rawPws.get(i));
+				}
+			}, hashingExecutor);
+		}
+		
+		CompletableFuture.allOf(futures).join();
+		return Arrays.asList(encoded);
+	}
+
+	/**
+	 * 비밀번호 암호화 (호출한 스레드에서 실행)
+	 */
+	public String encode(String rawPw) {
+		Timer.Sample sample = Timer.start();
+		try {
+			return bcrypt.encode(rawPw);
+		} finally {
+			sample.stop(encodeTimer);
+		}
+	}
+}
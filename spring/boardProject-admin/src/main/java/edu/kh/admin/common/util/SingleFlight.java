@@ -0,0 +1,89 @@
+package edu.kh.admin.common.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 같은 키의 동시 요청 합치기 (single-flight)
+ * - 키별로 먼저 도착한 요청(leader)만 작업을 실행하고, 실행 중에 도착한 요청(follower)은 그 결과를 함께 받음
+ * - 진행 중 작업은 ConcurrentHashMap 에 putIfAbsent 로 등록하고,
+ *   완료 후 remove(key, future) 로 자기 자신일 때만 제거 (잠금 없음)
+ *   -> 완료된 결과는 남기지 않으므로 이후 요청은 다시 실행 (캐시가 아님)
+ * - 작업에서 발생한 예외는 함께 기다리던 요청에도 그대로 전달
+ */
+public class SingleFlight<K, V> {
+
+	private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+	private final Counter leaders;
+	private final Counter followers;
+
+	/**
+	 * @param name : 메트릭 name 태그
+	 */
+	public SingleFlight(String name, MeterRegistry meterRegistry) {
+		this.leaders = counter(meterRegistry, name, "leader");
+		this.followers = counter(meterRegistry, name, "follower");
+		Gauge.builder("singleflight.in-flight", inFlight, ConcurrentHashMap::size)
+				.description("실행 중인 작업 수")
+				.tag("name", name)
+				.register(meterRegistry);
+	}
+
+	private static Counter counter(MeterRegistry meterRegistry, String name, String role) {
+		return Counter.builder("singleflight.calls")
+				.description("작업을 직접 실행(leader)하거나 실행 중인 결과를 함께 받은(follower) 요청 수")
+				.tag("name", name)
+				.tag("role", role)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 같은 키의 작업이 실행 중이면 그 결과를 기다리고, 아니면 직접 실행
+	 * @param key : 작업 식별 키 (equals/hashCode 기준)
+	 * @param work : 호출한 스레드에서 실행할 작업
+	 */
+	public V execute(K key, Supplier<V> work) {
+
+		CompletableFuture<V> mine = new CompletableFuture<>();
+		CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+
+		if (running != null) {
+			followers.increment();
+			return await(running);
+		}
+
+		leaders.increment();
+
+		try {
+			V result = work.get();
+			mine.complete(result);
+			return result;
+
+		} catch (RuntimeException | Error e) {
+			mine.completeExceptionally(e);
+			throw e;
+
+		} finally {
+			inFlight.remove(key, mine);
+		}
+	}
+
+	// 실행 중인 작업 결과 대기 (leader 의 예외는 감싸지 않고 그대로 전달)
+	private V await(CompletableFuture<V> running) {
+		try {
+			return running.join();
+
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException re) throw re;
+			if (e.getCause() instanceof Error err) throw err;
+			throw e;
+		}
+	}
+}
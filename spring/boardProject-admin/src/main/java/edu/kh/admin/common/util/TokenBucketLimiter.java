@@ -0,0 +1,150 @@
+package edu.kh.admin.common.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 키(클라이언트 주소, 이메일 등)별 토큰 버킷 요청 제한
+ * - 버킷 하나는 "다음 토큰이 비는 시각(tat)" 하나를 AtomicLong 으로 저장하고 CAS 로만 갱신 (GCRA 방식, 잠금 없음)
+ *   -> capacity 개까지 연속 허용, 이후 refillPeriod / capacity 마다 1개씩 다시 허용
+ * - 버킷 맵은 ConcurrentHashMap (새 키 등록 시에만 해당 bin 잠금)
+ * - 가득 찬(한동안 요청이 없던) 버킷은 evictIdle() 에서 제거하므로 메모리는 최근 요청한 키 수만큼만 사용
+ * - 키 수가 maxKeys 에 도달하면 새 키는 키 해시값으로 고른 공용 overflow 버킷(OVERFLOW_STRIPES 개) 중 하나를 사용
+ *   (무작위 키를 대량으로 보내도 메모리가 늘지 않고, 추적하지 못한 키도 제한 없이 통과하지 않음
+ *    -> 버킷 하나만 공유하지 않으므로 일부 키가 소진한 버킷이 다른 키 전체를 막지 않음)
+ */
+public class TokenBucketLimiter {
+
+	private static final int OVERFLOW_STRIPES = 256; // 2의 거듭제곱
+
+	private final long intervalNanos;  // 토큰 1개가 다시 채워지는 시간
+	private final long burstNanos;     // (capacity - 1) * intervalNanos
+	private final int maxKeys;
+
+	private final LongSupplier nanoClock; // System.nanoTime (테스트에서 교체)
+
+	private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+	private final AtomicLong[] overflow = new AtomicLong[OVERFLOW_STRIPES];
+
+	private final Counter allowed;
+	private final Counter rejected;
+	private final Counter overflowed;
+	private final Counter evicted;
+
+	/**
+	 * @param name : 메트릭 limiter 태그
+	 * @param capacity : 연속으로 허용하는 최대 요청 수
+	 * @param refillPeriodMillis : 빈 버킷이 capacity 만큼 다시 채워지는 시간
+	 * @param maxKeys : 추적하는 최대 키 수
+	 */
+	public TokenBucketLimiter(String name, int capacity, long refillPeriodMillis, int maxKeys,
+			MeterRegistry meterRegistry) {
+		this(name, capacity, refillPeriodMillis, maxKeys, meterRegistry, System::nanoTime);
+	}
+
+	TokenBucketLimiter(String name, int capacity, long refillPeriodMillis, int maxKeys,
+			MeterRegistry meterRegistry, LongSupplier nanoClock) {
+		
+		if (capacity < 1 || refillPeriodMillis < 1) {
+			throw new IllegalArgumentException("capacity, refillPeriod 는 1 이상이어야 합니다 : " + name);
+		}
+		
+		this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(refillPeriodMillis) / capacity;
+		this.burstNanos = intervalNanos * (capacity - 1);
+		this.maxKeys = maxKeys;
+		this.nanoClock = nanoClock;
+
+		for (int i = 0; i < OVERFLOW_STRIPES; i++) {
+			overflow[i] = new AtomicLong(nanoClock.getAsLong());
+		}
+
+		this.allowed = counter(meterRegistry, name, "allowed");
+		this.rejected = counter(meterRegistry, name, "rejected");
+		this.overflowed = Counter.builder("auth.login.throttle.overflow")
+				.description("키 수 제한으로 공용 overflow 버킷을 사용한 요청 수")
+				.tag("limiter", name)
+				.register(meterRegistry);
+		this.evicted = Counter.builder("auth.login.throttle.evicted")
+				.description("유휴 상태로 제거된 버킷 수")
+				.tag("limiter", name)
+				.register(meterRegistry);
+		Gauge.builder("auth.login.throttle.keys", buckets, ConcurrentHashMap::size)
+				.description("추적 중인 키 수")
+				.tag("limiter", name)
+				.register(meterRegistry);
+	}
+
+	private static Counter counter(MeterRegistry meterRegistry, String name, String result) {
+		return Counter.builder("auth.login.throttle")
+				.description("로그인 요청 제한 검사 결과")
+				.tag("limiter", name)
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 토큰 1개 사용 시도
+	 * @return 허용되면 0, 거절되면 다음 토큰까지 남은 시간(ns)
+	 */
+	public long tryAcquire(String key) {
+
+		AtomicLong bucket = bucket(key);
+
+		while (true) {
+			long now = nanoClock.getAsLong();
+			long tat = bucket.get();
+			long base = tat - now > 0 ? tat : now; // max(tat, now), nanoTime 은 차이로만 비교
+
+			long waitNanos = base - now - burstNanos;
+
+			if (waitNanos > 0) {
+				rejected.increment();
+				return waitNanos;
+			}
+
+			if (bucket.compareAndSet(tat, base + intervalNanos)) {
+				allowed.increment();
+				return 0;
+			}
+			// 다른 요청이 먼저 갱신함 -> 다시 계산
+		}
+	}
+
+	private AtomicLong bucket(String key) {
+
+		AtomicLong bucket = buckets.get(key);
+		if (bucket != null) return bucket;
+
+		if (buckets.size() >= maxKeys) {
+			overflowed.increment();
+			int h = key.hashCode();
+			return overflow[(h ^ (h >>> 16)) & (OVERFLOW_STRIPES - 1)];
+		}
+
+		// 새 버킷은 가득 찬 상태(tat = 현재 시각)로 시작
+		return buckets.computeIfAbsent(key, k -> new AtomicLong(nanoClock.getAsLong()));
+	}
+
+	/**
+	 * 가득 찬 버킷 제거 (제거 후 다시 요청해도 가득 찬 새 버킷이 만들어지므로 결과는 같음)
+	 * @return 제거된 버킷 수
+	 */
+	public int evictIdle() {
+		long now = nanoClock.getAsLong();
+		int before = buckets.size();
+		buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+		int removed = Math.max(0, before - buckets.size());
+		evicted.increment(removed);
+		return removed;
+	}
+
+	public int size() {
+		return buckets.size();
+	}
+}
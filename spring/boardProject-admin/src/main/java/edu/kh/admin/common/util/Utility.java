@@ -1,6 +1,10 @@
 package edu.kh.admin.common.util;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.HexFormat;
 import java.util.Random;
 
 import lombok.extern.slf4j.Slf4j;
@@ -11,16 +15,17 @@ public class Utility {
 	private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
     private static final int CODE_LENGTH = 6;
     
+    // SecureRandom: 난수를 생성하기 위한 클래스로, 보안적으로 더 강력한 랜덤 값을 생성함.
+    // 일반적인 Random보다 예측 가능성이 낮아, 민감한 데이터(예: 암호 생성)와 같은 곳에 적합함.
+    // -> 스레드 안전하므로 하나를 공유 (호출마다 새로 만들면 시드 초기화 비용이 매번 발생)
+    private static final SecureRandom RANDOM = new SecureRandom();
+    
     public static String generatePassword() {
     	
-    	 SecureRandom random = new SecureRandom(); 
-    	 // SecureRandom: 난수를 생성하기 위한 클래스로, 보안적으로 더 강력한 랜덤 값을 생성함.
-    	 // 일반적인 Random보다 예측 가능성이 낮아, 민감한 데이터(예: 암호 생성)와 같은 곳에 적합함.
-    	 
          StringBuilder randomCode = new StringBuilder(CODE_LENGTH); // 길이6을 초기 용량으로 갖는 StringBuilder 객체 생성
 
          for (int i = 0; i < CODE_LENGTH; i++) {
-             int index = random.nextInt(CHARACTERS.length()); // CHARACTERS의 길이(62)
+             int index = RANDOM.nextInt(CHARACTERS.length()); // CHARACTERS의 길이(62)
              			// random.nextInt(62)는 0부터 61 사이의 난수를 생성
      
              randomCode.append(CHARACTERS.charAt(index));
@@ -32,5 +37,22 @@ public class Utility {
          return randomCode.toString(); // StringBuilder에 저장된 문자열을 String으로 변환하여 반환
     }
 
+    /**
+     * 토큰 해시값 생성 (SHA-256, 대문자 16진수 64자리)
+     * - DB에는 원본 토큰 대신 고정 길이 해시값을 키로 저장/조회함 (유니크 인덱스 사용)
+     * - Oracle의 RAWTOHEX(STANDARD_HASH(토큰, 'SHA256')) 결과와 동일한 형식
+     */
+    public static String hashToken(String token) {
+    	try {
+    		// MessageDigest는 스레드 안전하지 않으므로 호출마다 새로 생성
+    		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+    		byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+    		return HexFormat.of().withUpperCase().formatHex(hash);
+    		
+    	} catch (NoSuchAlgorithmException e) {
+    		// SHA-256은 모든 JVM에서 지원하므로 발생하지 않음
+    		throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    	}
+    }
 	
 }
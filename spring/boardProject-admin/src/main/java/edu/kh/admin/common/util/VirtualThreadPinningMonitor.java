@@ -0,0 +1,69 @@
+package edu.kh.admin.common.util;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 pinning 감지 (가상 스레드 모드에서만 동작)
+ * - 가상 스레드가 synchronized 블록/네이티브 호출 안에서 블로킹되면 캐리어(플랫폼) 스레드를 붙잡게 됨(pinning)
+ * - JFR의 jdk.VirtualThreadPinned 이벤트를 구독하여 로그로 남기고 jvm.threads.virtual.pinned 카운터를 증가시킴
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+	private final Duration threshold;
+	private final Counter pinnedCounter;
+	private RecordingStream stream;
+
+	public VirtualThreadPinningMonitor(
+			@Value("${virtual-threads.pinning.threshold:20ms}") Duration threshold,
+			MeterRegistry meterRegistry) {
+		this.threshold = threshold;
+		this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+				.description("임계 시간 이상 캐리어 스레드에 고정(pinning)된 가상 스레드 수")
+				.register(meterRegistry);
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		stream = new RecordingStream();
+		stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+		stream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+		stream.startAsync();
+		log.info("가상 스레드 pinning 감지 시작 (임계 시간 {})", threshold);
+	}
+
+	private void onPinned(RecordedEvent event) {
+		pinnedCounter.increment();
+		
+		// 스택 최상단 프레임 하나만 기록 (어느 코드에서 pinning 되었는지 확인용)
+		String topFrame = "unknown";
+		if (event.getStackTrace() != null && !event.getStackTrace().getFrames().isEmpty()) {
+			RecordedFrame frame = event.getStackTrace().getFrames().get(0);
+			topFrame = frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+					+ ":" + frame.getLineNumber();
+		}
+		
+		log.warn("가상 스레드 pinning 발생 : {}ms, 위치 {}", event.getDuration().toMillis(), topFrame);
+	}
+
+	@Override
+	public void destroy() {
+		if (stream != null) stream.close();
+	}
+}
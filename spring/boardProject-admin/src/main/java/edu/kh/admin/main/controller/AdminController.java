@@ -1,7 +1,14 @@
 package edu.kh.admin.main.controller;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.ui.Model;
@@ -11,12 +18,33 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.SessionAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import edu.kh.admin.common.util.DataVersions;
+import edu.kh.admin.common.util.DataVersions.Kind;
 import edu.kh.admin.main.model.dto.Board;
+import edu.kh.admin.main.model.dto.BulkAccountResult;
+import edu.kh.admin.main.model.dto.BulkRestoreRequest;
+import edu.kh.admin.main.model.dto.BulkRestoreResult;
+import edu.kh.admin.main.model.dto.CursorPage;
+import edu.kh.admin.main.model.dto.DailyMemberStat;
+import edu.kh.admin.main.model.dto.DeletedBoard;
+import edu.kh.admin.main.model.dto.ExportFormat;
+import edu.kh.admin.main.model.dto.LeaderBoard;
 import edu.kh.admin.main.model.dto.Member;
+import edu.kh.admin.main.model.dto.NewMember;
+import edu.kh.admin.main.model.dto.StatisticsDashboard;
+import edu.kh.admin.main.model.dto.StatisticsSnapshot;
+import edu.kh.admin.main.model.dto.WithdrawnMember;
+import edu.kh.admin.main.model.service.AdminDirectoryService;
 import edu.kh.admin.main.model.service.AdminService;
+import edu.kh.admin.main.model.service.MemberStatService;
+import edu.kh.admin.main.model.service.ReferenceDataService;
+import edu.kh.admin.main.model.service.StatisticsService;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +56,22 @@ import lombok.extern.slf4j.Slf4j;
 public class AdminController {
 
 	private final AdminService service;
+	private final StatisticsService statisticsService;
+	private final MemberStatService memberStatService;
+	private final ReferenceDataService referenceDataService;
+	private final AdminDirectoryService adminDirectoryService;
+	private final DataVersions dataVersions;
+	
+	// 통계 스냅샷이 계산된 후 경과 시간(초)을 알려주는 응답 헤더
+	private static final String STATISTICS_AGE_HEADER = "X-Statistics-Age";
+	
+	// 조건부 GET 응답 캐시 정책 : 브라우저에만 저장하고, 사용할 때마다 If-None-Match 로 재검증
+	// -> 데이터가 바뀌지 않았으면 서버는 조회/JSON 변환 없이 304 응답
+	private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+	
+	// 관리자 계정 일괄 발급 요청 1건당 최대 계정 수
+	@Value("${admin.bulk.max-accounts:500}")
+	private int bulkMaxAccounts;
 
 	// ------------ 관리자 로그인 --------------
 
@@ -76,18 +120,27 @@ public class AdminController {
 	// ------------ 복구 --------------
 
 	/**
-	 * 탈퇴한 회원 목록 조회
+	 * 탈퇴한 회원 목록 조회 (커서 기반 페이지)
 	 * 
-	 * @return
+	 * @param cursor : 이전 응답의 next 값 (첫 페이지는 생략)
+	 * @param size : 페이지 크기 (기본 20, 최대 100)
+	 * @return { list : 회원 목록, next : 다음 페이지 커서 (마지막 페이지면 null) }
 	 */
 	@GetMapping("withdrawnMemberList")
-	public ResponseEntity<Object> selectWithdrawnMemberList() {
-		// 성공 시 List<Member> 반환, 실패시 String 반환 -> Object 사용
+	public ResponseEntity<Object> selectWithdrawnMemberList(
+			@RequestParam(value = "cursor", required = false) Integer cursor,
+			@RequestParam(value = "size", defaultValue = "20") int size,
+			WebRequest request) {
+		// 성공 시 CursorPage<WithdrawnMember> 반환, 실패시 String 반환 -> Object 사용
 		// 반환값을 특정할 수 없을때 ResponseEntity<?> 사용도 가능
 
+		// 버전은 조회 전에 읽음 -> 조회 중 데이터가 바뀌면 다음 요청에서 다시 조회됨
+		// 변경되지 않았으면 304 (상태, ETag 헤더는 checkNotModified 에서 설정)
+		if (request.checkNotModified(dataVersions.etag(Kind.WITHDRAWN_MEMBERS))) return null;
+
 		try {
-			List<Member> withdrawnMemberList = service.selectWithdrawnMemberList();
-			return ResponseEntity.status(HttpStatus.OK).body(withdrawnMemberList);
+			CursorPage<WithdrawnMember> withdrawnMemberList = service.selectWithdrawnMemberList(cursor, size);
+			return ResponseEntity.status(HttpStatus.OK).cacheControl(REVALIDATE).body(withdrawnMemberList);
 
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -126,16 +179,52 @@ public class AdminController {
 	}
 
 	/**
-	 * 삭제된 게시글 목록 조회
+	 * 탈퇴 회원 일괄 복구
 	 * 
-	 * @return
+	 * @param request : { ids : [회원 번호 목록] }
+	 * @return 번호별 복구 결과 (RESTORED / NOT_DELETED / NOT_FOUND)
+	 */
+	@PutMapping("restoreMembers")
+	public ResponseEntity<Object> restoreMembers(@RequestBody BulkRestoreRequest request) {
+		
+		if(request.getIds() == null || request.getIds().isEmpty()) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("복구할 회원 번호를 입력해주세요.");
+		}
+		
+		try {
+			BulkRestoreResult result = service.restoreMembers(request.getIds());
+			return ResponseEntity.status(HttpStatus.OK).body(result);
+			
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+					.body("탈퇴 회원 일괄 복구 중 문제가 발생했습니다: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * 삭제된 게시글 목록 조회 (커서 기반 페이지)
+	 * 
+	 * @param cursor : 이전 응답의 next 값 (첫 페이지는 생략)
+	 * @param size : 페이지 크기 (기본 20, 최대 100)
+	 * @param boardCode : 게시판 종류 필터 (선택)
+	 * @param startDate : 작성일 시작 필터 yyyy-MM-dd (선택)
+	 * @param endDate : 작성일 종료 필터 yyyy-MM-dd, 당일 포함 (선택)
+	 * @return { list : 게시글 목록, next : 다음 페이지 커서 (마지막 페이지면 null) }
 	 */
 	@GetMapping("deleteBoardList")
-	public ResponseEntity<Object> selectDeleteBoardList() {
+	public ResponseEntity<Object> selectDeleteBoardList(
+			@RequestParam(value = "cursor", required = false) Integer cursor,
+			@RequestParam(value = "size", defaultValue = "20") int size,
+			@RequestParam(value = "boardCode", required = false) Integer boardCode,
+			@RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate startDate,
+			@RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate endDate,
+			WebRequest request) {
+
+		if (request.checkNotModified(dataVersions.etag(Kind.DELETED_BOARDS))) return null;
 
 		try {
-			List<Board> deleteBoardList = service.selectDeleteBoardList();
-			return ResponseEntity.status(HttpStatus.OK).body(deleteBoardList);
+			CursorPage<DeletedBoard> deleteBoardList = service.selectDeleteBoardList(cursor, size, boardCode, startDate, endDate);
+			return ResponseEntity.status(HttpStatus.OK).cacheControl(REVALIDATE).body(deleteBoardList);
 
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -143,6 +232,59 @@ public class AdminController {
 		}
 	}
 
+	/**
+	 * 탈퇴 회원 전체 내보내기 (NDJSON / CSV 파일 다운로드)
+	 * - 조회 결과를 메모리에 모으지 않고 한 행씩 응답으로 바로 출력
+	 * 
+	 * @param format : ndjson(기본) 또는 csv
+	 * @return
+	 */
+	@GetMapping("export/withdrawnMembers")
+	public ResponseEntity<StreamingResponseBody> exportWithdrawnMembers(
+			@RequestParam(value = "format", defaultValue = "ndjson") String format) {
+		
+		ExportFormat exportFormat = ExportFormat.from(format);
+		
+		if(exportFormat == null) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).build(); // 지원하지 않는 형식
+		}
+		
+		return exportResponse("withdrawn-members", exportFormat, 
+				out -> service.exportWithdrawnMembers(exportFormat, out));
+	}
+
+	/**
+	 * 삭제 게시글 전체 내보내기 (NDJSON / CSV 파일 다운로드)
+	 * 
+	 * @param format : ndjson(기본) 또는 csv
+	 * @return
+	 */
+	@GetMapping("export/deletedBoards")
+	public ResponseEntity<StreamingResponseBody> exportDeletedBoards(
+			@RequestParam(value = "format", defaultValue = "ndjson") String format) {
+		
+		ExportFormat exportFormat = ExportFormat.from(format);
+		
+		if(exportFormat == null) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).build(); // 지원하지 않는 형식
+		}
+		
+		return exportResponse("deleted-boards", exportFormat, 
+				out -> service.exportDeletedBoards(exportFormat, out));
+	}
+	
+	// 파일 다운로드 스트리밍 응답 생성
+	// -> body는 요청 스레드가 아닌 비동기 스레드에서 실행되며, 출력 중 연결이 끊기면 조회도 중단됨
+	private ResponseEntity<StreamingResponseBody> exportResponse(String fileName, ExportFormat format, 
+			StreamingResponseBody body) {
+		
+		return ResponseEntity.status(HttpStatus.OK)
+				.header(HttpHeaders.CONTENT_TYPE, format.getContentType())
+				.header(HttpHeaders.CONTENT_DISPOSITION, 
+						"attachment; filename=\"" + fileName + "." + format.getExtension() + "\"")
+				.body(body);
+	}
+
 	/**
 	 * 삭제된 게시글 복구
 	 * 
@@ -171,6 +313,30 @@ public class AdminController {
 
 	}
 
+	/**
+	 * 삭제 게시글 일괄 복구
+	 * 
+	 * @param request : { ids : [게시글 번호 목록] } 
+	 * 					또는 { boardCode, memberNo, startDate, endDate } 조건 (하나 이상 필수)
+	 * @return 번호별 복구 결과 (RESTORED / NOT_DELETED / NOT_FOUND)
+	 */
+	@PutMapping("restoreBoards")
+	public ResponseEntity<Object> restoreBoards(@RequestBody BulkRestoreRequest request) {
+		
+		try {
+			BulkRestoreResult result = service.restoreBoards(request);
+			return ResponseEntity.status(HttpStatus.OK).body(result);
+			
+		} catch (IllegalArgumentException e) {
+			// 번호 목록도, 조건도 없는 요청
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+			
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+					.body("삭제 게시글 일괄 복구 중 문제가 발생했습니다: " + e.getMessage());
+		}
+	}
+
 	// ------------ 통계 --------------
 
 	/**
@@ -179,28 +345,65 @@ public class AdminController {
 	 * @return
 	 */
 	@GetMapping("newMember")
-	public ResponseEntity<List<Member>> getNewMember() {
+	public ResponseEntity<List<NewMember>> getNewMember(WebRequest request) {
+		
+		if (request.checkNotModified(dataVersions.etag(Kind.NEW_MEMBERS))) return null;
+		
 		try {
 
-			List<Member> newMemberList = service.getNewMember();
-			return ResponseEntity.status(HttpStatus.OK).body(newMemberList);
+			List<NewMember> newMemberList = service.getNewMember();
+			return ResponseEntity.status(HttpStatus.OK).cacheControl(REVALIDATE).body(newMemberList);
 
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
 		}
 	}
 
+	/**
+	 * 일별 회원 통계 (가입 / 탈퇴 / 활동 회원 수)
+	 * - 일별 집계 결과(메모리)에서 조회하므로 MEMBER 테이블을 조회하지 않음
+	 * 
+	 * @param days : 조회 일수 (오늘 포함, 1 ~ 365, 기본 7)
+	 * @return
+	 */
+	@GetMapping("memberStats")
+	public ResponseEntity<Object> memberStats(@RequestParam(value = "days", defaultValue = "7") int days) {
+		
+		if(days < 1 || days > 365) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("조회 일수는 1 ~ 365 사이여야 합니다.");
+		}
+		
+		try {
+			List<DailyMemberStat> stats = memberStatService.getDailyStats(days);
+			return ResponseEntity.status(HttpStatus.OK).body(stats);
+			
+		} catch (IllegalStateException e) {
+			// 서버 시작 직후 아직 집계 전
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+			
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+					.body("일별 회원 통계 조회 중 문제가 발생했습니다: " + e.getMessage());
+		}
+	}
+
 	/**
 	 * 게시글 최대 조회 수
 	 * 
 	 * @return
 	 */
 	@GetMapping("maxReadCount")
-	public ResponseEntity<Object> maxReadCount() {
+	public ResponseEntity<Object> maxReadCount(WebRequest request) {
+		
+		// 통계 스냅샷이 다시 계산되기 전까지는 같은 ETag
+		if (request.checkNotModified(statisticsEtag(false))) return null;
 
 		try {
-			Board board = service.maxReadCount();
-			return ResponseEntity.status(HttpStatus.OK).body(board);
+			LeaderBoard board = service.maxReadCount();
+			return ResponseEntity.status(HttpStatus.OK)
+					.header(STATISTICS_AGE_HEADER, statisticsAge())
+					.cacheControl(REVALIDATE)
+					.body(board);
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
 		}
@@ -213,11 +416,17 @@ public class AdminController {
 	 * @return
 	 */
 	@GetMapping("maxLikeCount")
-	public ResponseEntity<Object> maxLikeCount() {
+	public ResponseEntity<Object> maxLikeCount(WebRequest request) {
+		
+		// 통계 스냅샷이 다시 계산되기 전까지는 같은 ETag
+		if (request.checkNotModified(statisticsEtag(false))) return null;
 
 		try {
-			Board board = service.maxLikeCount();
-			return ResponseEntity.status(HttpStatus.OK).body(board);
+			LeaderBoard board = service.maxLikeCount();
+			return ResponseEntity.status(HttpStatus.OK)
+					.header(STATISTICS_AGE_HEADER, statisticsAge())
+					.cacheControl(REVALIDATE)
+					.body(board);
 			
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
@@ -230,16 +439,121 @@ public class AdminController {
 	 * @return
 	 */
 	@GetMapping("maxCommentCount")
-	public ResponseEntity<Object> maxCommentCount() {
+	public ResponseEntity<Object> maxCommentCount(WebRequest request) {
+		
+		// 통계 스냅샷이 다시 계산되기 전까지는 같은 ETag
+		if (request.checkNotModified(statisticsEtag(false))) return null;
 		try {
-			Board board = service.maxCommentCount();
-			return ResponseEntity.status(HttpStatus.OK).body(board);
+			LeaderBoard board = service.maxCommentCount();
+			return ResponseEntity.status(HttpStatus.OK)
+					.header(STATISTICS_AGE_HEADER, statisticsAge())
+					.cacheControl(REVALIDATE)
+					.body(board);
 			
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
 		}
 	}
 
+	/**
+	 * 통계 대시보드 통합 조회
+	 * - 최대 조회/좋아요/댓글 수 게시글 + 신규 가입 회원을 한 번의 요청으로 조회
+	 * 
+	 * @return
+	 */
+	@GetMapping("statistics")
+	public ResponseEntity<Object> statistics(WebRequest request) {
+		
+		// 신규 가입 회원은 DB 에서 조회하므로 시간 구간도 함께 사용
+		if (request.checkNotModified(statisticsEtag(true))) return null;
+		
+		try {
+			StatisticsDashboard dashboard = statisticsService.getDashboard();
+			return ResponseEntity.status(HttpStatus.OK)
+					.header(STATISTICS_AGE_HEADER, String.valueOf(dashboard.getStatisticsAgeSeconds()))
+					.cacheControl(REVALIDATE)
+					.body(dashboard);
+			
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+					.body("통계 조회 중 문제가 발생했습니다: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * 통계 스냅샷 즉시 재계산
+	 * - 여러 관리자가 동시에 요청해도 재계산은 한 번만 수행됨
+	 * 
+	 * @return
+	 */
+	@PostMapping("refreshStatistics")
+	public ResponseEntity<Object> refreshStatistics() {
+		try {
+			StatisticsSnapshot snapshot = statisticsService.refresh().join();
+			return ResponseEntity.status(HttpStatus.OK)
+					.header(STATISTICS_AGE_HEADER, String.valueOf(snapshot.getAgeSeconds()))
+					.body(snapshot);
+			
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+					.body("통계 갱신 중 문제가 발생했습니다: " + e.getMessage());
+		}
+	}
+	
+	/**
+	 * 게시판 종류 사전 다시 적재 + 회원 닉네임 캐시 제거
+	 * - 게시판 추가/이름 변경, 회원 닉네임 변경 직후 바로 반영해야 할 때 호출
+	 * 
+	 * @param memberNos : 닉네임이 변경된 회원 번호 목록 (없으면 닉네임 캐시 전체 제거)
+	 * @return 적재된 게시판 종류 수
+	 */
+	@PostMapping("refreshReferenceData")
+	public ResponseEntity<Object> refreshReferenceData(
+			@RequestBody(required = false) List<Integer> memberNos) {
+		try {
+			int boardTypes = referenceDataService.reloadBoardTypes();
+			referenceDataService.evictNicknames(memberNos);
+			dataVersions.bump(Kind.DELETED_BOARDS); // 게시판 이름/닉네임이 바뀌었을 수 있음
+			return ResponseEntity.status(HttpStatus.OK).body(boardTypes);
+			
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+					.body("기준 정보 갱신 중 문제가 발생했습니다: " + e.getMessage());
+		}
+	}
+	
+	/**
+	 * 관리자 계정 사전 다시 적재
+	 * - DB 에서 직접 관리자 계정을 추가/변경/탈퇴 처리한 후 다음 주기를 기다리지 않고 바로 반영해야 할 때 호출
+	 * 
+	 * @return 적재된 관리자 계정 수 (탈퇴 계정 포함)
+	 */
+	@PostMapping("refreshAdminDirectory")
+	public ResponseEntity<Object> refreshAdminDirectory() {
+		try {
+			return ResponseEntity.status(HttpStatus.OK).body(adminDirectoryService.reload());
+			
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+					.body("관리자 계정 사전 갱신 중 문제가 발생했습니다: " + e.getMessage());
+		}
+	}
+	
+	// 현재 통계 스냅샷의 경과 시간(초)
+	private String statisticsAge() {
+		return String.valueOf(statisticsService.getSnapshot().getAgeSeconds());
+	}
+	
+	// 현재 통계 스냅샷의 ETag (스냅샷 계산 시각 기준)
+	// -> 스냅샷을 아직 계산하지 못했으면 null (조건부 응답 없이 아래 조회에서 오류 처리)
+	private String statisticsEtag(boolean withNewMembers) {
+		try {
+			return dataVersions.etag("stat", statisticsService.getSnapshot().getComputedAt(), withNewMembers);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
 	// ------------ 관리자메뉴 --------------
 
 	/**
@@ -270,16 +584,54 @@ public class AdminController {
 		}
 	}
 
+	/**
+	 * 관리자 계정 일괄 발급
+	 * 
+	 * @param members : [{ memberEmail, memberNickname, memberTel }, ...] (최대 admin.bulk.max-accounts 건)
+	 * @return 결과별 건수 + 계정별 결과 (CREATED 인 경우 발급된 임시 비밀번호 포함)
+	 */
+	@PostMapping("createAdminAccounts")
+	public ResponseEntity<Object> createAdminAccounts(@RequestBody List<Member> members) {
+		
+		if(members == null || members.isEmpty()) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("발급할 계정 정보를 입력해주세요.");
+		}
+		
+		if(members.size() > bulkMaxAccounts) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+					.body("한 번에 발급할 수 있는 계정은 최대 " + bulkMaxAccounts + " 건입니다.");
+		}
+		
+		try {
+			BulkAccountResult result = service.createAdminAccounts(members);
+			
+			return ResponseEntity.status(result.getCreated() > 0 ? HttpStatus.CREATED : HttpStatus.OK)
+					.body(result);
+			
+		} catch (RejectedExecutionException e) {
+			// 해싱 스레드 풀 포화 (로그인 요청이 몰린 상태) -> 잠시 후 재시도
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+					.body("요청이 많아 계정을 발급할 수 없습니다. 잠시 후 다시 시도해주세요.");
+			
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+					.body("관리자 계정 일괄 발급 중 문제가 발생했습니다: " + e.getMessage());
+		}
+	}
+
 	/**
 	 * 관리자 계정 목록
 	 * 
 	 * @return
 	 */
 	@GetMapping("adminAccountList")
-	public ResponseEntity<Object> adminAccountList() {
+	public ResponseEntity<Object> adminAccountList(WebRequest request) {
+		
+		if (request.checkNotModified(dataVersions.etag(Kind.ADMIN_ACCOUNTS))) return null;
+		
 		try {
 			List<Member> adminList = service.adminAccountList();
-			return ResponseEntity.status(HttpStatus.OK).body(adminList);
+			return ResponseEntity.status(HttpStatus.OK).cacheControl(REVALIDATE).body(adminList);
 			
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
@@ -0,0 +1,25 @@
+package edu.kh.admin.main.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 관리자 계정 일괄 발급 결과 (요청 계정 하나당 1개)
+ */
+@Getter
+@ToString(exclude = "password")
+@AllArgsConstructor
+public class AccountResult {
+
+	public enum Outcome {
+		CREATED,       // 발급 완료
+		INVALID,       // 이메일/닉네임 누락 또는 형식 오류
+		DUPLICATE,     // 같은 요청 안에서 이메일 중복
+		ALREADY_EXISTS // 이미 사용 중인 이메일
+	}
+
+	private final String memberEmail;
+	private final Outcome outcome;
+	private final String password; // 발급된 임시 비밀번호 (CREATED 인 경우만)
+}
@@ -0,0 +1,30 @@
+package edu.kh.admin.main.model.dto;
+
+/**
+ * 관리자 계정 사전 항목 (AUTHORITY = 2)
+ * - 로그인 검증용 비밀번호 해시를 포함하므로 응답에는 toMember() 로 변환해서 사용
+ * @param active : MEMBER_DEL_FL = 'N' 이면 true (로그인 가능)
+ */
+public record AdminAccount(
+		int memberNo,
+		String memberEmail,
+		String memberNickname,
+		String memberTel,
+		String memberPw,
+		boolean active) {
+
+	/** 로그인 결과 / 계정 목록 응답용 Member (비밀번호 제외, 호출마다 새 객체) */
+	public Member toMember() {
+		return Member.builder()
+				.memberNo(memberNo)
+				.memberEmail(memberEmail)
+				.memberNickname(memberNickname)
+				.memberTel(memberTel)
+				.build();
+	}
+
+	@Override
+	public String toString() {
+		return "AdminAccount[memberNo=" + memberNo + ", memberEmail=" + memberEmail + ", active=" + active + "]";
+	}
+}
@@ -0,0 +1,24 @@
+package edu.kh.admin.main.model.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 작업 감사 로그 1건 (TB_ADMIN_AUDIT_LOG)
+ * @param actorEmail : 작업한 관리자 이메일 (로그인 실패 시 입력된 이메일, 알 수 없으면 null)
+ * @param action : RESTORE_MEMBER, RESTORE_BOARD, CREATE_ADMIN_ACCOUNT, LOGIN, LOGOUT 등
+ * @param targetType : MEMBER, BOARD
+ * @param targetId : 대상 회원/게시글 번호 또는 이메일 (일괄 작업은 null)
+ * @param result : SUCCESS, FAIL, UNAUTHORIZED 등
+ * @param detail : 일괄 작업 건수 등 부가 정보
+ * @param clientAddr : 요청 주소
+ */
+public record AuditEvent(
+		LocalDateTime eventTime,
+		String actorEmail,
+		String action,
+		String targetType,
+		String targetId,
+		String result,
+		String detail,
+		String clientAddr) {
+}
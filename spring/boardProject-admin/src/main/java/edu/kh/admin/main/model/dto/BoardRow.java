@@ -0,0 +1,17 @@
+package edu.kh.admin.main.model.dto;
+
+/**
+ * 게시판 이름 / 작성자 닉네임을 메모리에서 채우는 게시글 조회 결과
+ * - 쿼리는 BOARD_CODE, MEMBER_NO 만 조회하고 이름은 ReferenceDataService 에서 채움
+ */
+public interface BoardRow<T extends BoardRow<T>> {
+
+	int boardCode();
+
+	int memberNo();
+
+	/**
+	 * 이름을 채운 새 객체 (조회 결과는 불변)
+	 */
+	T withNames(String boardName, String memberNickname);
+}
@@ -0,0 +1,39 @@
+package edu.kh.admin.main.model.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 관리자 계정 일괄 발급 응답 (결과별 건수 + 계정별 결과)
+ */
+@Getter
+@ToString
+public class BulkAccountResult {
+
+	private final int created;
+	private final int invalid;
+	private final int duplicate;
+	private final int alreadyExists;
+	private final List<AccountResult> results;
+
+	public BulkAccountResult(List<AccountResult> results) {
+		int created = 0, invalid = 0, duplicate = 0, alreadyExists = 0;
+		
+		for (AccountResult result : results) {
+			switch (result.getOutcome()) {
+			case CREATED -> created++;
+			case INVALID -> invalid++;
+			case DUPLICATE -> duplicate++;
+			case ALREADY_EXISTS -> alreadyExists++;
+			}
+		}
+		
+		this.created = created;
+		this.invalid = invalid;
+		this.duplicate = duplicate;
+		this.alreadyExists = alreadyExists;
+		this.results = results;
+	}
+}
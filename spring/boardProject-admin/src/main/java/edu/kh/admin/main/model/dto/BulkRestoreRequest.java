@@ -0,0 +1,46 @@
+package edu.kh.admin.main.model.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 일괄 복구 요청
+ * - ids 를 보내면 해당 번호만 복구
+ * - ids 없이 조건(boardCode, memberNo, startDate, endDate)을 보내면 조건에 맞는 삭제 게시글 전체 복구 (게시글만 해당)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class BulkRestoreRequest {
+
+	private List<Integer> ids;         // 복구할 회원 번호 / 게시글 번호 목록
+
+	// 게시글 일괄 복구 조건
+	private Integer boardCode;         // 게시판 종류
+	private Integer memberNo;          // 작성자 회원 번호
+	
+	@JsonFormat(pattern = "yyyy-MM-dd")
+	private LocalDate startDate;       // 작성일 시작 (BOARD 에 삭제일 컬럼이 없으므로 작성일 기준)
+	
+	@JsonFormat(pattern = "yyyy-MM-dd")
+	private LocalDate endDate;         // 작성일 종료 (당일 포함)
+
+	/**
+	 * 조건 일괄 복구 요청인지 여부 (조건이 하나도 없으면 전체 복구를 막기 위해 false)
+	 */
+	public boolean hasCriteria() {
+		return boardCode != null || memberNo != null || startDate != null || endDate != null;
+	}
+}
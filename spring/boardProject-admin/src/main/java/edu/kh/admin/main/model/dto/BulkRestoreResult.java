@@ -0,0 +1,36 @@
+package edu.kh.admin.main.model.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 일괄 복구 응답 (결과별 건수 + 번호별 결과)
+ */
+@Getter
+@ToString
+public class BulkRestoreResult {
+
+	private final int restored;
+	private final int notDeleted;
+	private final int notFound;
+	private final List<RestoreResult> results;
+
+	public BulkRestoreResult(List<RestoreResult> results) {
+		int restored = 0, notDeleted = 0, notFound = 0;
+		
+		for (RestoreResult result : results) {
+			switch (result.getOutcome()) {
+			case RESTORED -> restored++;
+			case NOT_DELETED -> notDeleted++;
+			case NOT_FOUND -> notFound++;
+			}
+		}
+		
+		this.restored = restored;
+		this.notDeleted = notDeleted;
+		this.notFound = notFound;
+		this.results = results;
+	}
+}
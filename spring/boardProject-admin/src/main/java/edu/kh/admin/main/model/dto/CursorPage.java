@@ -0,0 +1,25 @@
+package edu.kh.admin.main.model.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 커서(키셋) 기반 페이지 응답
+ * - next : 다음 페이지 요청 시 cursor 파라미터로 전달할 값 (마지막 페이지면 null)
+ *   (마지막 페이지 표시이므로 null 생략 설정과 관계없이 항상 출력)
+ */
+@JsonInclude(Include.ALWAYS)
+@Getter
+@ToString
+@AllArgsConstructor
+public class CursorPage<T> {
+
+	private final List<T> list;
+	private final Integer next;
+}
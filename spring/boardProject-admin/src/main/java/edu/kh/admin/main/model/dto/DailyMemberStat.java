@@ -0,0 +1,31 @@
+package edu.kh.admin.main.model.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 일별 회원 통계 (TB_MEMBER_DAILY_STAT)
+ * - 지난 날짜는 하루가 끝난 뒤 한 번만 계산하여 저장, 오늘은 주기적으로 다시 계산
+ * - activeCount / withdrawnTotal / withdrawnCount 는 집계 테이블 도입 이전 날짜의 경우 null
+ *   (MEMBER 테이블에 탈퇴일 컬럼이 없어 과거 시점 값은 알 수 없음)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class DailyMemberStat {
+
+	private LocalDate statDate;     // 통계 날짜
+	private int signupCount;        // 가입 회원 수
+	private Integer withdrawnCount; // 탈퇴 회원 수 (전날 대비 탈퇴 상태 회원 증감, 복구 시 음수 가능)
+	private Integer activeCount;    // 해당 날짜 종료 시점 활동(탈퇴하지 않은) 회원 수
+	private Integer withdrawnTotal; // 해당 날짜 종료 시점 탈퇴 상태 회원 수
+}
@@ -0,0 +1,26 @@
+package edu.kh.admin.main.model.dto;
+
+/**
+ * 삭제 게시글 목록 / 내보내기 행
+ */
+public record DeletedBoard(
+		int boardNo,
+		String boardTitle,
+		int boardCode,
+		String boardWriteDate,
+		int memberNo,
+		String boardName,
+		String memberNickname) implements BoardRow<DeletedBoard> {
+
+	/**
+	 * 목록 조회용 (게시판 이름, 닉네임은 JOIN 없이 나중에 채움)
+	 */
+	public DeletedBoard(int boardNo, String boardTitle, int boardCode, String boardWriteDate, int memberNo) {
+		this(boardNo, boardTitle, boardCode, boardWriteDate, memberNo, null, null);
+	}
+
+	@Override
+	public DeletedBoard withNames(String boardName, String memberNickname) {
+		return new DeletedBoard(boardNo, boardTitle, boardCode, boardWriteDate, memberNo, boardName, memberNickname);
+	}
+}
@@ -0,0 +1,37 @@
+package edu.kh.admin.main.model.dto;
+
+/**
+ * 내보내기(export) 파일 형식
+ */
+public enum ExportFormat {
+
+	NDJSON("application/x-ndjson", "ndjson"), // 한 줄에 JSON 객체 하나
+	CSV("text/csv; charset=UTF-8", "csv");
+
+	private final String contentType;
+	private final String extension;
+
+	ExportFormat(String contentType, String extension) {
+		this.contentType = contentType;
+		this.extension = extension;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public String getExtension() {
+		return extension;
+	}
+
+	/**
+	 * 요청 파라미터(ndjson / csv) -> ExportFormat
+	 * @return 지원하지 않는 형식이면 null
+	 */
+	public static ExportFormat from(String value) {
+		for (ExportFormat format : values()) {
+			if (format.extension.equalsIgnoreCase(value)) return format;
+		}
+		return null;
+	}
+}
@@ -0,0 +1,31 @@
+package edu.kh.admin.main.model.dto;
+
+/**
+ * 최대 조회/좋아요/댓글 수 게시글
+ * - 각 쿼리는 해당 수치 하나만 조회하고 나머지는 null (JSON 에서 생략됨)
+ */
+public record LeaderBoard(
+		int boardNo,
+		String boardTitle,
+		int boardCode,
+		int memberNo,
+		Integer readCount,
+		Integer likeCount,
+		Integer commentCount,
+		String boardName,
+		String memberNickname) implements BoardRow<LeaderBoard> {
+
+	/**
+	 * 조회용 (게시판 이름, 닉네임은 JOIN 없이 나중에 채움)
+	 */
+	public LeaderBoard(int boardNo, String boardTitle, int boardCode, int memberNo,
+			Integer readCount, Integer likeCount, Integer commentCount) {
+		this(boardNo, boardTitle, boardCode, memberNo, readCount, likeCount, commentCount, null, null);
+	}
+
+	@Override
+	public LeaderBoard withNames(String boardName, String memberNickname) {
+		return new LeaderBoard(boardNo, boardTitle, boardCode, memberNo,
+				readCount, likeCount, commentCount, boardName, memberNickname);
+	}
+}
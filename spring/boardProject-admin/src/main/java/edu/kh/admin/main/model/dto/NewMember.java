@@ -0,0 +1,11 @@
+package edu.kh.admin.main.model.dto;
+
+/**
+ * 신규 가입 회원 (최근 7일)
+ */
+public record NewMember(
+		int memberNo,
+		String memberEmail,
+		String memberNickname,
+		String enrollDate) {
+}
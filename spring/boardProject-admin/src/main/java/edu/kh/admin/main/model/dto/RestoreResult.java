@@ -0,0 +1,23 @@
+package edu.kh.admin.main.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 일괄 복구 결과 (번호 하나당 1개)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class RestoreResult {
+
+	public enum Outcome {
+		RESTORED,    // 복구 완료
+		NOT_DELETED, // 탈퇴/삭제 상태가 아님
+		NOT_FOUND    // 존재하지 않는 번호
+	}
+
+	private final int id;
+	private final Outcome outcome;
+}
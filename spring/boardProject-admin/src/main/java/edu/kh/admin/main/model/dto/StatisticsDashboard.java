@@ -0,0 +1,30 @@
+package edu.kh.admin.main.model.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 통계 대시보드 통합 응답
+ * - 최대 조회/좋아요/댓글 수 게시글 + 신규 가입 회원을 한 번에 전달
+ * - 제한 시간 안에 조회하지 못한 항목은 null 이고 failedSections 에 이름이 담김
+ *   (null 이 의미를 가지므로 null 생략 설정과 관계없이 항상 출력)
+ */
+@JsonInclude(Include.ALWAYS)
+@Getter
+@ToString
+@AllArgsConstructor
+public class StatisticsDashboard {
+
+	private final LeaderBoard maxReadCount;
+	private final LeaderBoard maxLikeCount;
+	private final LeaderBoard maxCommentCount;
+	private final List<NewMember> newMembers;
+	private final long statisticsAgeSeconds; // 통계 스냅샷 경과 시간(초)
+	private final List<String> failedSections;
+}
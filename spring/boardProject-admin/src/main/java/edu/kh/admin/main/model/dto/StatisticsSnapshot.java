@@ -0,0 +1,39 @@
+package edu.kh.admin.main.model.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 통계(최대 조회/좋아요/댓글 수 게시글) 스냅샷
+ * - 백그라운드에서 주기적으로 계산되어 통째로 교체되는 불변 객체
+ * - 제한 시간 안에 갱신하지 못한 항목은 이전 스냅샷 값과 그 값의 계산 시각을 그대로 유지
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class StatisticsSnapshot {
+
+	private final LeaderBoard maxReadCount;    // 최대 조회 수 게시글
+	private final LeaderBoard maxLikeCount;    // 최대 좋아요 수 게시글
+	private final LeaderBoard maxCommentCount; // 최대 댓글 수 게시글
+	private final long computedAt;       // 스냅샷 교체 시각 (epoch ms, ETag 기준)
+	private final Map<String, Long> sectionComputedAt; // 항목 이름 -> 값을 계산한 시각 (한 번도 계산하지 못한 항목은 없음)
+	private final List<String> failedSections;         // 이번 계산에서 갱신하지 못한 항목 (이전 값 또는 null 사용)
+
+	/**
+	 * 스냅샷에서 가장 오래된 항목 값의 경과 시간(초)
+	 * - 일부 항목이 이전 값을 유지하고 있으면 그 값의 계산 시각 기준
+	 */
+	public long getAgeSeconds() {
+		long oldest = sectionComputedAt.values().stream()
+				.mapToLong(Long::longValue)
+				.min()
+				.orElse(computedAt);
+
+		return (System.currentTimeMillis() - oldest) / 1000;
+	}
+}
@@ -0,0 +1,19 @@
+package edu.kh.admin.main.model.dto;
+
+/**
+ * 탈퇴 회원 목록 / 내보내기 행
+ * - enrollDate 는 내보내기에서만 조회 (목록 응답에서는 null 이므로 JSON 에서 생략됨)
+ */
+public record WithdrawnMember(
+		int memberNo,
+		String memberEmail,
+		String memberNickname,
+		String enrollDate) {
+
+	/**
+	 * 목록 조회용 (가입일 제외)
+	 */
+	public WithdrawnMember(int memberNo, String memberEmail, String memberNickname) {
+		this(memberNo, memberEmail, memberNickname, null);
+	}
+}
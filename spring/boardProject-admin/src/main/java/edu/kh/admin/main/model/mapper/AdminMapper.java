@@ -1,30 +1,37 @@
 package edu.kh.admin.main.model.mapper;
 
 import java.util.List;
+import java.util.Map;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.cursor.Cursor;
 
+import edu.kh.admin.main.model.dto.AdminAccount;
 import edu.kh.admin.main.model.dto.Board;
+import edu.kh.admin.main.model.dto.DeletedBoard;
+import edu.kh.admin.main.model.dto.LeaderBoard;
 import edu.kh.admin.main.model.dto.Member;
+import edu.kh.admin.main.model.dto.NewMember;
+import edu.kh.admin.main.model.dto.WithdrawnMember;
 
 @Mapper
 public interface AdminMapper {
 
-	/** 관리자 로그인
-	 * @param memberEmail
-	 * @return
+	/** 관리자 계정 전체 조회 (관리자 계정 사전 적재용, 탈퇴 계정 포함)
+	 * @return MEMBER_NO 순
 	 */
-	Member login(String memberEmail);
+	List<AdminAccount> selectAdminAccounts();
 	
 	/** 새로운 가입 회원 조회
 	 * @return
 	 */
-	List<Member> getNewMember();
+	List<NewMember> getNewMember();
 
-	/** 탈퇴 회원 조회
+	/** 탈퇴 회원 조회 (키셋 페이지네이션)
+	 * @param paramMap : cursor(이전 페이지 마지막 MEMBER_NO), limit
 	 * @return 
 	 */
-	List<Member> selectWithdrawnMemberList();
+	List<WithdrawnMember> selectWithdrawnMemberList(Map<String, Object> paramMap);
 
 	/** 탈퇴 회원 복구
 	 * @param memberNo
@@ -32,10 +39,33 @@ public interface AdminMapper {
 	 */
 	int restoreMember(int memberNo);
 
-	/** 삭제된 게시글 목록 조회
+	/** 회원 탈퇴 여부 조회 (일괄 복구용, 조회한 행은 잠금)
+	 * @param memberNos
+	 * @return MEMBER_NO, MEMBER_DEL_FL
+	 */
+	List<Member> selectMemberDelFl(List<Integer> memberNos);
+
+	/** 탈퇴 회원 일괄 복구 (집합 UPDATE)
+	 * @param memberNos
+	 * @return
+	 */
+	int restoreMembers(List<Integer> memberNos);
+
+	/** 삭제된 게시글 목록 조회 (키셋 페이지네이션)
+	 * @param paramMap : cursor(이전 페이지 마지막 BOARD_NO), limit, boardCode, startDate, endDate
 	 * @return
 	 */
-	List<Board> selectDeleteBoardList();
+	List<DeletedBoard> selectDeleteBoardList(Map<String, Object> paramMap);
+
+	/** 탈퇴 회원 전체 내보내기 (한 행씩 읽는 Cursor)
+	 * @return
+	 */
+	Cursor<WithdrawnMember> exportWithdrawnMembers();
+
+	/** 삭제 게시글 전체 내보내기 (한 행씩 읽는 Cursor)
+	 * @return
+	 */
+	Cursor<DeletedBoard> exportDeletedBoards();
 
 	/** 삭제 게시글 복구
 	 * @param boardNo
@@ -43,20 +73,38 @@ public interface AdminMapper {
 	 */
 	int restoreBoard(int boardNo);
 
+	/** 게시글 삭제 여부 조회 (일괄 복구용, 조회한 행은 잠금)
+	 * @param boardNos
+	 * @return BOARD_NO, BOARD_DEL_FL
+	 */
+	List<Board> selectBoardDelFl(List<Integer> boardNos);
+
+	/** 조건에 맞는 삭제 게시글 번호 조회 (일괄 복구용, BOARD_NO 오름차순 키셋 페이지네이션)
+	 * @param paramMap : boardCode, memberNo, startDate, endDate, cursor(이전 chunk 마지막 BOARD_NO), limit
+	 * @return
+	 */
+	List<Integer> selectDeletedBoardNos(Map<String, Object> paramMap);
+
+	/** 삭제 게시글 일괄 복구 (집합 UPDATE)
+	 * @param boardNos
+	 * @return
+	 */
+	int restoreBoards(List<Integer> boardNos);
+
 	/** 게시글 최대 조회수
 	 * @return
 	 */
-	Board maxReadCount();
+	LeaderBoard maxReadCount();
 
 	/** 게시글 최대 좋아요 수
 	 * @return
 	 */
-	Board maxLikeCount();
+	LeaderBoard maxLikeCount();
 
 	/** 게시글 최대 댓글 수
 	 * @return
 	 */
-	Board maxCommentCount();
+	LeaderBoard maxCommentCount();
 
 	/** 관리자 계정 발급
 	 * @param member
@@ -64,10 +112,11 @@ public interface AdminMapper {
 	 */
 	int createAdminAccount(Member member);
 
-	/** 관리자 계정 목록
-	 * @return
+	/** 이미 사용 중인 이메일 조회 (관리자 계정 일괄 발급용)
+	 * @param memberEmails : 최대 1000개 (Oracle IN 절 제한)
+	 * @return 탈퇴하지 않은 회원이 사용 중인 이메일
 	 */
-	List<Member> adminAccountList();
+	List<String> selectExistingEmails(List<String> memberEmails);
 
 
 	
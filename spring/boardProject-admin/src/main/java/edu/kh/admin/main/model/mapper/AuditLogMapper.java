@@ -0,0 +1,16 @@
+package edu.kh.admin.main.model.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+
+import edu.kh.admin.main.model.dto.AuditEvent;
+
+@Mapper
+public interface AuditLogMapper {
+
+	/** 감사 로그 저장 (배치 실행용 SqlSessionTemplate 으로 모아서 실행)
+	 * @param event
+	 * @return
+	 */
+	int insertAuditLog(AuditEvent event);
+
+}
@@ -0,0 +1,35 @@
+package edu.kh.admin.main.model.mapper;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.annotations.Mapper;
+
+import edu.kh.admin.main.model.dto.DailyMemberStat;
+
+@Mapper
+public interface MemberStatMapper {
+
+	/** 저장된 일별 회원 통계 전체 조회
+	 * @return
+	 */
+	List<DailyMemberStat> selectDailyStats();
+
+	/** 기간별 일별 가입 회원 수 조회 (가입 회원이 있는 날짜만)
+	 * @param paramMap : from(포함, null 이면 제한 없음), to(미포함)
+	 * @return STAT_DATE, SIGNUP_COUNT
+	 */
+	List<DailyMemberStat> selectSignupCounts(Map<String, Object> paramMap);
+
+	/** 현재 시점 회원 수 조회 (오늘 가입 수, 활동 회원 수, 탈퇴 상태 회원 수)
+	 * @return
+	 */
+	DailyMemberStat selectCurrentCounts();
+
+	/** 일별 회원 통계 저장
+	 * @param stat
+	 * @return
+	 */
+	int mergeDailyStat(DailyMemberStat stat);
+
+}
@@ -0,0 +1,24 @@
+package edu.kh.admin.main.model.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+
+import edu.kh.admin.main.model.dto.Board;
+import edu.kh.admin.main.model.dto.Member;
+
+@Mapper
+public interface ReferenceDataMapper {
+
+	/** 게시판 종류 전체 조회
+	 * @return BOARD_CODE, BOARD_NAME
+	 */
+	List<Board> selectBoardTypes();
+
+	/** 회원 번호 목록의 닉네임 조회
+	 * @param memberNos : 최대 1000개 (Oracle IN 절 제한)
+	 * @return MEMBER_NO, MEMBER_NICKNAME
+	 */
+	List<Member> selectNicknames(List<Integer> memberNos);
+
+}
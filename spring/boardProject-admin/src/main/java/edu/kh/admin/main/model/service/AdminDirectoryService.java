@@ -0,0 +1,30 @@
+package edu.kh.admin.main.model.service;
+
+import java.util.List;
+
+import edu.kh.admin.main.model.dto.AdminAccount;
+
+public interface AdminDirectoryService {
+
+	/** 로그인 가능한(탈퇴하지 않은) 관리자 계정 조회 (메모리 사전, DB 조회 없음)
+	 * @param memberEmail
+	 * @return 없으면 null
+	 */
+	AdminAccount find(String memberEmail);
+
+	/** 전체 관리자 계정 목록 (탈퇴 계정 포함, MEMBER_NO 순)
+	 * @return 읽기 전용 목록
+	 */
+	List<AdminAccount> accounts();
+
+	/** 관리자 계정 사전 다시 적재 (DB 에서 직접 계정을 추가/변경한 후 호출)
+	 * @return 적재된 관리자 계정 수
+	 */
+	int reload();
+
+	/** 현재 트랜잭션이 커밋된 후 관리자 계정 사전 다시 적재 (계정 발급 후 호출)
+	 * - 트랜잭션 밖에서 호출하면 바로 적재
+	 */
+	void reloadAfterCommit();
+
+}
@@ -0,0 +1,138 @@
+package edu.kh.admin.main.model.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import edu.kh.admin.common.util.DataVersions;
+import edu.kh.admin.common.util.DataVersions.Kind;
+import edu.kh.admin.main.model.dto.AdminAccount;
+import edu.kh.admin.main.model.mapper.AdminMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 계정 사전 (이메일 -> 회원 번호, 닉네임, 비밀번호 해시)
+ * - 관리자 계정은 몇 건 되지 않고 거의 바뀌지 않으므로 전체를 불변 Map 으로 들고 있다가 통째로 교체
+ *   -> 로그인 시 회원 조회 쿼리 없이 검증, 없는 이메일은 DB 조회 없이 바로 거절
+ * - 서버 시작 시 1회 + 일정 간격(AdminDirectoryScheduler)으로 다시 적재하고,
+ *   이 서버에서 계정을 발급하면 커밋 직후 다시 적재
+ * - DB 에서 직접 추가/변경/탈퇴 처리한 계정은 다음 적재(또는 refreshAdminDirectory 호출) 시점부터 반영
+ *   -> 탈퇴/권한 회수된 계정은 최대 admin.directory.refresh-interval 동안 로그인 가능 (즉시 막으려면 refreshAdminDirectory 호출)
+ * - 로그인 검증에 사용하므로 복제 지연이 없는 쓰기 풀에서 적재
+ */
+@Service
+@Slf4j
+public class AdminDirectoryServiceImpl implements AdminDirectoryService {
+
+	private final AdminMapper mapper;
+	private final DataVersions dataVersions;
+
+	// 적재는 호출한 쪽 트랜잭션(이미 커밋된 트랜잭션 포함)과 무관하게 새 트랜잭션에서 실행
+	// -> readOnly 로 지정하면 읽기 전용 풀(복제본)로 라우팅되어 방금 발급/탈퇴된 계정이 반영되지 않을 수 있음
+	private final TransactionTemplate reloadTx;
+
+	// 한 번에 교체되는 사전 (읽기 전용)
+	private record Directory(Map<String, AdminAccount> byEmail, List<AdminAccount> accounts) {}
+
+	private volatile Directory directory;
+
+	public AdminDirectoryServiceImpl(AdminMapper mapper, DataVersions dataVersions,
+			PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+		this.mapper = mapper;
+		this.dataVersions = dataVersions;
+
+		this.reloadTx = new TransactionTemplate(transactionManager);
+		this.reloadTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		Gauge.builder("admin.directory.size", this, s -> s.directory == null ? 0 : s.directory.byEmail().size())
+				.description("로그인 가능한 관리자 계정 수")
+				.register(meterRegistry);
+	}
+
+	// 로그인 가능한 관리자 계정 조회
+	@Override
+	public AdminAccount find(String memberEmail) {
+		if (memberEmail == null) return null;
+		return current().byEmail().get(memberEmail);
+	}
+
+	// 전체 관리자 계정 목록
+	@Override
+	public List<AdminAccount> accounts() {
+		return current().accounts();
+	}
+
+	private Directory current() {
+		Directory current = directory;
+
+		if (current == null) {
+			reload(); // 스케줄러 실행 전 첫 요청
+			current = directory;
+		}
+
+		return current;
+	}
+
+	// 관리자 계정 사전 다시 적재
+	@Override
+	public synchronized int reload() {
+		return reloadTx.execute(status -> {
+
+			List<AdminAccount> accounts = List.copyOf(mapper.selectAdminAccounts());
+
+			Map<String, AdminAccount> byEmail = new HashMap<>();
+
+			for (AdminAccount account : accounts) {
+				if (account.active()) byEmail.put(account.memberEmail(), account);
+			}
+
+			Directory previous = directory;
+			directory = new Directory(Map.copyOf(byEmail), accounts);
+
+			if (previous == null || !accounts.equals(previous.accounts())) {
+				log.info("관리자 계정 사전 적재 (전체 {} 건, 로그인 가능 {} 건)", accounts.size(), byEmail.size());
+
+				// 목록이 바뀌었으면 관리자 계정 목록 ETag 갱신 (DB 에서 직접 변경한 경우 포함)
+				if (previous != null) dataVersions.bump(Kind.ADMIN_ACCOUNTS);
+			}
+
+			return accounts.size();
+		});
+	}
+
+	// 커밋 후 다시 적재
+	@Override
+	public void reloadAfterCommit() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					reloadQuietly();
+				}
+			});
+			return;
+		}
+
+		reloadQuietly();
+	}
+
+	// 계정 발급은 이미 커밋되었으므로 적재 실패가 발급 결과를 바꾸지 않도록 로그만 남김
+	// -> 다음 스케줄 적재 시 반영
+	private void reloadQuietly() {
+		try {
+			reload();
+		} catch (Exception e) {
+			log.error("관리자 계정 사전 적재 중 예외 발생", e);
+		}
+	}
+}
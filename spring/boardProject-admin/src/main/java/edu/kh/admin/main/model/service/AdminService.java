@@ -1,9 +1,21 @@
 package edu.kh.admin.main.model.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
-import edu.kh.admin.main.model.dto.Board;
+import edu.kh.admin.main.model.dto.BulkAccountResult;
+import edu.kh.admin.main.model.dto.BulkRestoreRequest;
+import edu.kh.admin.main.model.dto.BulkRestoreResult;
+import edu.kh.admin.main.model.dto.CursorPage;
+import edu.kh.admin.main.model.dto.DeletedBoard;
+import edu.kh.admin.main.model.dto.ExportFormat;
+import edu.kh.admin.main.model.dto.LeaderBoard;
 import edu.kh.admin.main.model.dto.Member;
+import edu.kh.admin.main.model.dto.NewMember;
+import edu.kh.admin.main.model.dto.WithdrawnMember;
 
 public interface AdminService {
 
@@ -13,15 +25,25 @@ public interface AdminService {
 	 */
 	Member login(Member inputMember);
 	
+	/** 관리자 로그인 (비동기)
+	 * - 비밀번호 검증(BCrypt)은 해싱 전용 스레드 풀에서 수행
+	 * @param inputMember
+	 * @return 로그인 실패 시 null로 완료되는 CompletableFuture
+	 * @throws java.util.concurrent.RejectedExecutionException 해싱 스레드 풀이 포화 상태인 경우
+	 */
+	CompletableFuture<Member> loginAsync(Member inputMember);
+	
 	/** 새로운 가입 회원 조회
 	 * @return
 	 */
-	List<Member> getNewMember();
+	List<NewMember> getNewMember();
 
-	/** 탈퇴 회원 조회
+	/** 탈퇴 회원 조회 (MEMBER_NO 내림차순, 커서 기반 페이지)
+	 * @param cursor : 이전 페이지의 next 값 (첫 페이지는 null)
+	 * @param size : 페이지 크기
 	 * @return
 	 */
-	List<Member> selectWithdrawnMemberList();
+	CursorPage<WithdrawnMember> selectWithdrawnMemberList(Integer cursor, int size);
 
 	/** 탈퇴 회원 복구
 	 * @param memberNo 
@@ -29,10 +51,39 @@ public interface AdminService {
 	 */
 	int restoreMember(int memberNo);
 
-	/** 삭제된 게시글 목록 조회
+	/** 탈퇴 회원 일괄 복구 (chunk 단위로 커밋, 실패 시 앞서 커밋된 chunk 는 유지)
+	 * @param memberNos : 복구할 회원 번호 목록
+	 * @return 번호별 결과 (복구 완료 / 탈퇴 상태 아님 / 없는 회원)
+	 */
+	BulkRestoreResult restoreMembers(List<Integer> memberNos);
+
+	/** 삭제된 게시글 목록 조회 (BOARD_NO 내림차순, 커서 기반 페이지)
+	 * @param cursor : 이전 페이지의 next 값 (첫 페이지는 null)
+	 * @param size : 페이지 크기
+	 * @param boardCode : 게시판 종류 필터 (null 이면 전체)
+	 * @param startDate : 작성일 시작 필터 (null 이면 제한 없음)
+	 * @param endDate : 작성일 종료 필터, 해당일 포함 (null 이면 제한 없음)
 	 * @return
 	 */
-	List<Board> selectDeleteBoardList();
+	CursorPage<DeletedBoard> selectDeleteBoardList(Integer cursor, int size, Integer boardCode, 
+			LocalDate startDate, LocalDate endDate);
+
+	/** 탈퇴 회원 전체 내보내기
+	 * - 결과를 메모리에 모으지 않고 한 행씩 out 으로 출력
+	 * @param format : NDJSON / CSV
+	 * @param out : 응답 스트림
+	 * @return 출력한 행 수
+	 * @throws IOException 클라이언트 연결이 끊긴 경우 등 (조회도 중단됨)
+	 */
+	long exportWithdrawnMembers(ExportFormat format, OutputStream out) throws IOException;
+
+	/** 삭제 게시글 전체 내보내기
+	 * @param format : NDJSON / CSV
+	 * @param out : 응답 스트림
+	 * @return 출력한 행 수
+	 * @throws IOException 클라이언트 연결이 끊긴 경우 등 (조회도 중단됨)
+	 */
+	long exportDeletedBoards(ExportFormat format, OutputStream out) throws IOException;
 
 	/** 삭제 게시글 복구
 	 * @param boardNo
@@ -40,20 +91,26 @@ public interface AdminService {
 	 */
 	int restoreBoard(int boardNo);
 
-	/** 게시글 최대 조회 수
+	/** 삭제 게시글 일괄 복구 (chunk 단위로 커밋, 실패 시 앞서 커밋된 chunk 는 유지)
+	 * @param request : 게시글 번호 목록 또는 조건(게시판 종류, 작성자, 작성일 범위)
+	 * @return 번호별 결과 (복구 완료 / 삭제 상태 아님 / 없는 게시글)
+	 */
+	BulkRestoreResult restoreBoards(BulkRestoreRequest request);
+
+	/** 게시글 최대 조회 수 (통계 스냅샷에서 조회)
 	 * @return
 	 */
-	Board maxReadCount();
+	LeaderBoard maxReadCount();
 
-	/** 게시글 최대 좋아요 수
+	/** 게시글 최대 좋아요 수 (통계 스냅샷에서 조회)
 	 * @return
 	 */
-	Board maxLikeCount();
+	LeaderBoard maxLikeCount();
 
-	/** 게시글 최대 댓글 수
+	/** 게시글 최대 댓글 수 (통계 스냅샷에서 조회)
 	 * @return
 	 */
-	Board maxCommentCount();
+	LeaderBoard maxCommentCount();
 
 	/** 관리자 계정 발급
 	 * @param member
@@ -61,6 +118,15 @@ public interface AdminService {
 	 */
 	String createAdminAccount(Member member);
 
+	/** 관리자 계정 일괄 발급
+	 * - 임시 비밀번호 암호화는 해싱 스레드 풀에서 병렬로, INSERT 는 한 번의 JDBC 배치로 실행
+	 * - 누락/중복/이미 사용 중인 이메일은 건너뛰고 계정별 결과로 반환
+	 * @param members : memberEmail, memberNickname, memberTel
+	 * @return
+	 * @throws java.util.concurrent.RejectedExecutionException 해싱 스레드 풀이 포화 상태인 경우
+	 */
+	BulkAccountResult createAdminAccounts(List<Member> members);
+
 	/** 관리자 계정 목록
 	 * @return
 	 */
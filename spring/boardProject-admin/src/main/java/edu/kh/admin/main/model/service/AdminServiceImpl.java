@@ -1,20 +1,60 @@
 package edu.kh.admin.main.model.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.ToIntFunction;
 
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.BatchResult;
+import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.GetMapping;
 
+import edu.kh.admin.common.util.AuditLogger;
+import edu.kh.admin.common.util.DataVersions;
+import edu.kh.admin.common.util.DataVersions.Kind;
+import edu.kh.admin.common.util.ExportWriter;
+import edu.kh.admin.common.util.PasswordHasher;
 import edu.kh.admin.common.util.Utility;
+import edu.kh.admin.main.model.dto.AccountResult;
+import edu.kh.admin.main.model.dto.AdminAccount;
 import edu.kh.admin.main.model.dto.Board;
+import edu.kh.admin.main.model.dto.BulkAccountResult;
+import edu.kh.admin.main.model.dto.BulkRestoreRequest;
+import edu.kh.admin.main.model.dto.BulkRestoreResult;
+import edu.kh.admin.main.model.dto.CursorPage;
+import edu.kh.admin.main.model.dto.DeletedBoard;
+import edu.kh.admin.main.model.dto.ExportFormat;
+import edu.kh.admin.main.model.dto.LeaderBoard;
 import edu.kh.admin.main.model.dto.Member;
+import edu.kh.admin.main.model.dto.NewMember;
+import edu.kh.admin.main.model.dto.RestoreResult;
+import edu.kh.admin.main.model.dto.RestoreResult.Outcome;
+import edu.kh.admin.main.model.dto.WithdrawnMember;
 import edu.kh.admin.main.model.mapper.AdminMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+// 조회 메서드는 @Transactional(readOnly = true) -> 읽기 전용 풀(readDataSource) 사용
+// 로그인은 DB 대신 관리자 계정 사전(AdminDirectoryService)으로 검증 (사전은 쓰기 풀에서 주기적으로 적재)
 @Service
 @RequiredArgsConstructor
 @Transactional(rollbackFor=Exception.class)
@@ -22,71 +62,371 @@ import lombok.extern.slf4j.Slf4j;
 public class AdminServiceImpl implements AdminService{
 	
 	private final AdminMapper mapper;
-	private final BCryptPasswordEncoder bcrypt;
+	private final PasswordHasher passwordHasher;
+	private final StatisticsService statisticsService;
+	private final ReferenceDataService referenceData;
+	private final AdminDirectoryService adminDirectory;
+	private final DataVersions dataVersions;
+	private final AuditLogger auditLogger; // 변경 작업 감사 로그 (커밋 후 비동기 저장)
+	private final PlatformTransactionManager transactionManager;
+	
+	// 관리자 계정 일괄 발급 INSERT 용 (JDBC 배치)
+	@Autowired
+	@Qualifier("batchSqlSessionTemplate")
+	private SqlSessionTemplate batchSqlSession;
+	
+	// 목록 조회 페이지 크기 (기본 / 최대)
+	private static final int DEFAULT_PAGE_SIZE = 20;
+	private static final int MAX_PAGE_SIZE = 100;
+	
+	// 일괄 복구 시 한 번에 UPDATE 할 번호 수
+	@Value("${restore.bulk.chunk-size:500}")
+	private int bulkChunkSize;
+	
+	// 관리자 계정 일괄 발급 시 동시에 실행할 BCrypt 작업 수 (0 이하면 CPU 코어 수의 절반)
+	@Value("${admin.bulk.hash-parallelism:0}")
+	private int hashParallelism;
 
 	// 관리자 로그인
+	// -> 관리자 계정은 메모리 사전에서 조회 (없는 이메일은 DB 조회 없이 거절)
 	@Override
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public Member login(Member inputMember) {
 		
-		Member loginMember = mapper.login(inputMember.getMemberEmail());
+		AdminAccount account = adminDirectory.find(inputMember.getMemberEmail());
 		
-		if(loginMember == null) return null;
+		if(account == null) return null;
 		
 		
-		if( !bcrypt.matches(inputMember.getMemberPw(), loginMember.getMemberPw())) {
+		if( !passwordHasher.matches(inputMember.getMemberPw(), account.memberPw())) {
 			return null;
 		}
 		
-		loginMember.setMemberPw(null);
-		return loginMember;
+		return account.toMember();
+	}
+	
+	// 관리자 로그인 (비동기)
+	@Override
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public CompletableFuture<Member> loginAsync(Member inputMember) {
+		
+		// 1. 관리자 계정 조회는 메모리 사전에서 수행 (DB 조회 없음)
+		AdminAccount account = adminDirectory.find(inputMember.getMemberEmail());
+		
+		if(account == null) return CompletableFuture.completedFuture(null);
+		
+		// 2. BCrypt 검증은 해싱 전용 스레드 풀에서 수행
+		return passwordHasher.matchesAsync(inputMember.getMemberPw(), account.memberPw())
+				.thenApply(matched -> matched ? account.toMember() : null);
 	}
 	
 	// 새로운 가입 회원 조회
 	@Override
-	public List<Member> getNewMember() {
+	@Transactional(readOnly = true)
+	public List<NewMember> getNewMember() {
 		return mapper.getNewMember();
 	}
 	
 	// 탈퇴 회원 조회
 	@Override
-	public List<Member> selectWithdrawnMemberList() {
-		return mapper.selectWithdrawnMemberList();
+	@Transactional(readOnly = true)
+	public CursorPage<WithdrawnMember> selectWithdrawnMemberList(Integer cursor, int size) {
+		
+		int pageSize = pageSize(size);
+		
+		Map<String, Object> paramMap = new HashMap<>();
+		paramMap.put("cursor", cursor);
+		paramMap.put("limit", pageSize + 1); // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+		
+		List<WithdrawnMember> list = mapper.selectWithdrawnMemberList(paramMap);
+		
+		return toPage(list, pageSize, WithdrawnMember::memberNo);
 	}
 	
 	// 탈퇴 회원 복구
 	@Override
 	public int restoreMember(int memberNo) {
-		return mapper.restoreMember(memberNo);
+		int result = mapper.restoreMember(memberNo);
+		if(result > 0) dataVersions.bump(Kind.WITHDRAWN_MEMBERS);
+		auditLogger.record("RESTORE_MEMBER", "MEMBER", memberNo, result > 0 ? "SUCCESS" : "FAIL", null);
+		return result;
+	}
+	
+	// 탈퇴 회원 일괄 복구
+	// -> chunk 마다 별도 트랜잭션으로 조회(잠금) -> 집합 UPDATE -> 커밋 (잠금은 chunk 하나를 처리하는 동안만 유지)
+	//    중간 chunk 에서 실패하면 앞서 커밋된 chunk 의 복구는 유지되고 예외 발생
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public BulkRestoreResult restoreMembers(List<Integer> memberNos) {
+		
+		List<RestoreResult> results = new ArrayList<>();
+		
+		for(List<Integer> chunk : chunks(memberNos)) {
+			results.addAll(chunkTx().execute(status -> {
+				
+				Map<Integer, String> delFlMap = new HashMap<>();
+				for(Member member : mapper.selectMemberDelFl(chunk)) {
+					delFlMap.put(member.getMemberNo(), member.getMemberDelFl());
+				}
+				
+				List<RestoreResult> chunkResults = restoreChunk(chunk, delFlMap, mapper::restoreMembers);
+				chunkRestored(Kind.WITHDRAWN_MEMBERS, "RESTORE_MEMBERS", "MEMBER", chunkResults);
+				return chunkResults;
+			}));
+		}
+		
+		return new BulkRestoreResult(results);
 	}
 	
 	// 삭제된 게시글 목록 조회
 	@Override
-	public List<Board> selectDeleteBoardList() {
-		return mapper.selectDeleteBoardList();
+	@Transactional(readOnly = true)
+	public CursorPage<DeletedBoard> selectDeleteBoardList(Integer cursor, int size, Integer boardCode, 
+			LocalDate startDate, LocalDate endDate) {
+		
+		int pageSize = pageSize(size);
+		
+		Map<String, Object> paramMap = new HashMap<>();
+		paramMap.put("cursor", cursor);
+		paramMap.put("limit", pageSize + 1); // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+		paramMap.put("boardCode", boardCode);
+		paramMap.put("startDate", startDate);
+		paramMap.put("endDate", endDate == null ? null : endDate.plusDays(1)); // 종료일 당일 포함
+		
+		List<DeletedBoard> list = mapper.selectDeleteBoardList(paramMap);
+		
+		CursorPage<DeletedBoard> page = toPage(list, pageSize, DeletedBoard::boardNo);
+		
+		// 게시판 이름, 작성자 닉네임은 JOIN 대신 메모리(사전/캐시)에서 채움
+		return new CursorPage<>(referenceData.withNames(page.getList()), page.getNext());
+	}
+	
+	// 페이지 크기 보정 (1 ~ MAX_PAGE_SIZE)
+	private int pageSize(int size) {
+		if(size < 1) return DEFAULT_PAGE_SIZE;
+		return Math.min(size, MAX_PAGE_SIZE);
+	}
+	
+	// pageSize + 1 건 조회 결과를 페이지로 변환
+	// -> 1건이 더 조회되었다면 다음 페이지가 있으므로 마지막 행의 키를 next 커서로 사용
+	private <T> CursorPage<T> toPage(List<T> list, int pageSize, ToIntFunction<T> keyExtractor) {
+		
+		if(list.size() <= pageSize) {
+			return new CursorPage<>(list, null);
+		}
+		
+		list.remove(pageSize); // 확인용으로 더 조회한 1건 제거
+		return new CursorPage<>(list, keyExtractor.applyAsInt(list.get(pageSize - 1)));
+	}
+	
+	// 탈퇴 회원 전체 내보내기
+	// -> Cursor는 트랜잭션(SqlSession)이 유지되는 동안만 읽을 수 있으므로 메서드 전체를 읽기 전용 트랜잭션으로 실행
+	@Override
+	@Transactional(readOnly = true, rollbackFor = Exception.class)
+	public long exportWithdrawnMembers(ExportFormat format, OutputStream out) throws IOException {
+		
+		String[] columns = {"memberNo", "memberEmail", "memberNickname", "enrollDate"};
+		
+		try (Cursor<WithdrawnMember> cursor = mapper.exportWithdrawnMembers();
+			 ExportWriter<WithdrawnMember> writer = new ExportWriter<>(format, columns, 
+					 m -> new Object[] {m.memberNo(), m.memberEmail(), m.memberNickname(), m.enrollDate()},
+					 out)) {
+			
+			for (WithdrawnMember member : cursor) {
+				writer.write(member);
+			}
+			
+			log.info("탈퇴 회원 내보내기 완료 : {} 건", writer.getRowCount());
+			return writer.getRowCount();
+		}
+	}
+	
+	// 삭제 게시글 전체 내보내기
+	@Override
+	@Transactional(readOnly = true, rollbackFor = Exception.class)
+	public long exportDeletedBoards(ExportFormat format, OutputStream out) throws IOException {
+		
+		String[] columns = {"boardNo", "boardTitle", "boardCode", "boardName", 
+							"boardWriteDate", "memberNo", "memberNickname"};
+		
+		try (Cursor<DeletedBoard> cursor = mapper.exportDeletedBoards();
+			 ExportWriter<DeletedBoard> writer = new ExportWriter<>(format, columns, 
+					 b -> new Object[] {b.boardNo(), b.boardTitle(), b.boardCode(), b.boardName(),
+							 			b.boardWriteDate(), b.memberNo(), b.memberNickname()},
+					 out)) {
+			
+			for (DeletedBoard board : cursor) {
+				writer.write(board);
+			}
+			
+			log.info("삭제 게시글 내보내기 완료 : {} 건", writer.getRowCount());
+			return writer.getRowCount();
+		}
 	}
 	
 	// 삭제 게시글 복구
 	@Override
 	public int restoreBoard(int boardNo) {
-		return mapper.restoreBoard(boardNo);
+		int result = mapper.restoreBoard(boardNo);
+		if(result > 0) dataVersions.bump(Kind.DELETED_BOARDS);
+		auditLogger.record("RESTORE_BOARD", "BOARD", boardNo, result > 0 ? "SUCCESS" : "FAIL", null);
+		return result;
+	}
+	
+	// 삭제 게시글 일괄 복구
+	// -> 탈퇴 회원 일괄 복구와 같이 chunk 마다 별도 트랜잭션으로 커밋
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public BulkRestoreResult restoreBoards(BulkRestoreRequest request) {
+		
+		List<RestoreResult> results = new ArrayList<>();
+		
+		// 1. 게시글 번호 목록으로 복구
+		if(request.getIds() != null && !request.getIds().isEmpty()) {
+			
+			for(List<Integer> chunk : chunks(request.getIds())) {
+				results.addAll(chunkTx().execute(status -> restoreBoardChunk(chunk)));
+			}
+			
+			return new BulkRestoreResult(results);
+		}
+		
+		// 2. 조건으로 복구 (조건이 하나도 없으면 전체 복구가 되므로 거절)
+		if(!request.hasCriteria()) {
+			throw new IllegalArgumentException("복구할 게시글 번호 또는 조건을 입력해주세요.");
+		}
+		
+		Map<String, Object> paramMap = new HashMap<>();
+		paramMap.put("boardCode", request.getBoardCode());
+		paramMap.put("memberNo", request.getMemberNo());
+		paramMap.put("startDate", request.getStartDate());
+		paramMap.put("endDate", request.getEndDate() == null ? null : request.getEndDate().plusDays(1)); // 종료일 당일 포함
+		paramMap.put("limit", chunkSize());
+		
+		// 조건에 맞는 번호를 한 번에 모두 읽지 않고 chunk 크기만큼 키셋으로 나누어 조회
+		// -> chunk 마다 같은 트랜잭션에서 번호 조회 -> 잠금 -> 복구 (ID 목록 복구와 같은 방식)
+		Integer cursor = null;
+		
+		while(true) {
+			paramMap.put("cursor", cursor);
+			
+			List<RestoreResult> chunkResults = chunkTx().execute(status -> {
+				List<Integer> boardNos = mapper.selectDeletedBoardNos(paramMap);
+				return boardNos.isEmpty() ? List.<RestoreResult>of() : restoreBoardChunk(boardNos);
+			});
+			
+			results.addAll(chunkResults);
+			
+			if(chunkResults.size() < chunkSize()) break;
+			
+			cursor = chunkResults.get(chunkResults.size() - 1).getId();
+		}
+		
+		return new BulkRestoreResult(results);
+	}
+	
+	// 게시글 chunk 하나 조회(잠금) 후 복구 (chunk 트랜잭션 안에서 호출)
+	private List<RestoreResult> restoreBoardChunk(List<Integer> chunk) {
+		
+		Map<Integer, String> delFlMap = new HashMap<>();
+		for(Board board : mapper.selectBoardDelFl(chunk)) {
+			delFlMap.put(board.getBoardNo(), board.getBoardDelFl());
+		}
+		
+		List<RestoreResult> chunkResults = restoreChunk(chunk, delFlMap, mapper::restoreBoards);
+		chunkRestored(Kind.DELETED_BOARDS, "RESTORE_BOARDS", "BOARD", chunkResults);
+		return chunkResults;
+	}
+	
+	// chunk 하나를 처리하는 새 트랜잭션 (호출한 쪽 트랜잭션과 별도로 커밋)
+	private TransactionTemplate chunkTx() {
+		TransactionTemplate chunkTx = new TransactionTemplate(transactionManager);
+		chunkTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		return chunkTx;
+	}
+	
+	// 일괄 복구 chunk 크기 (Oracle IN 절 최대 1000개)
+	private int chunkSize() {
+		return Math.max(1, Math.min(bulkChunkSize, 1000));
+	}
+	
+	// 번호 목록을 중복/null 제거 후 chunk 크기로 분할
+	private List<List<Integer>> chunks(List<Integer> ids) {
+		
+		List<Integer> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+		distinct.removeIf(Objects::isNull);
+		
+		int chunkSize = chunkSize();
+		
+		List<List<Integer>> chunks = new ArrayList<>();
+		for(int i = 0; i < distinct.size(); i += chunkSize) {
+			chunks.add(distinct.subList(i, Math.min(i + chunkSize, distinct.size())));
+		}
+		return chunks;
+	}
+	
+	// chunk 하나 복구 : 삭제('Y') 상태인 번호만 집합 UPDATE 후 번호별 결과 생성
+	// -> 삭제 여부 조회 시 FOR UPDATE 로 잠갔으므로 UPDATE 건수는 'Y' 인 번호 수와 같아야 함
+	//    다르면(잠금 밖에서 변경됨) 결과를 신뢰할 수 없으므로 예외를 던져 chunk 를 롤백
+	private List<RestoreResult> restoreChunk(List<Integer> chunk, Map<Integer, String> delFlMap, 
+			ToIntFunction<List<Integer>> restore) {
+		
+		List<Integer> targets = chunk.stream().filter(no -> "Y".equals(delFlMap.get(no))).toList();
+		
+		int updated = targets.isEmpty() ? 0 : restore.applyAsInt(targets);
+		
+		if(updated != targets.size()) {
+			throw new IllegalStateException(
+					String.format("일괄 복구 건수 불일치 (대상 %d 건, 복구 %d 건)", targets.size(), updated));
+		}
+		
+		List<RestoreResult> results = new ArrayList<>(chunk.size());
+		
+		for(int no : chunk) {
+			String delFl = delFlMap.get(no);
+			
+			Outcome outcome;
+			if(delFl == null) 			outcome = Outcome.NOT_FOUND;
+			else if("Y".equals(delFl)) 	outcome = Outcome.RESTORED;
+			else 						outcome = Outcome.NOT_DELETED;
+			
+			results.add(new RestoreResult(no, outcome));
+		}
+		
+		return results;
+	}
+	
+	// chunk 복구 후처리 (chunk 트랜잭션 커밋 후 반영)
+	// -> 목록 ETag 갱신 + 감사 로그 (번호별로 남기지 않고 chunk 의 결과별 건수만 1건으로 기록)
+	private void chunkRestored(Kind kind, String action, String targetType, List<RestoreResult> chunkResults) {
+		
+		BulkRestoreResult result = new BulkRestoreResult(chunkResults);
+		
+		if(result.getRestored() > 0) dataVersions.bump(kind);
+		
+		auditLogger.record(action, targetType, null, "SUCCESS", String.format("restored=%d, notDeleted=%d, notFound=%d",
+				result.getRestored(), result.getNotDeleted(), result.getNotFound()));
 	}
 	
 	// 게시글 최대 조회수
 	@Override
-	public Board maxReadCount() {
-		return mapper.maxReadCount();
+	@Transactional(readOnly = true)
+	public LeaderBoard maxReadCount() {
+		return statisticsService.getSnapshot().getMaxReadCount(); // 메모리 스냅샷에서 조회
 	}
 	
 	// 게시글 최대 좋아요 수
 	@Override
-	public Board maxLikeCount() {
-		return mapper.maxLikeCount();
+	@Transactional(readOnly = true)
+	public LeaderBoard maxLikeCount() {
+		return statisticsService.getSnapshot().getMaxLikeCount(); // 메모리 스냅샷에서 조회
 	}
 	
 	// 게시글 최대 댓글 수
 	@Override
-	public Board maxCommentCount() {
-		return mapper.maxCommentCount();
+	@Transactional(readOnly = true)
+	public LeaderBoard maxCommentCount() {
+		return statisticsService.getSnapshot().getMaxCommentCount(); // 메모리 스냅샷에서 조회
 	}
 	
 	// 관리자 계정 발급
@@ -95,7 +435,7 @@ public class AdminServiceImpl implements AdminService{
 		
 		// 1. 영어,숫자 6자리 난수로 만든 비밀번호를 암호화 한 값 구하기
 		String rawPw = Utility.generatePassword(); // 평문 비번
-		String encPw = bcrypt.encode(rawPw);  // 암호화된 비번
+		String encPw = passwordHasher.encode(rawPw);  // 암호화된 비번
 		
 		// 2. member에 암호화된 비밀번호 세팅
 		member.setMemberPw(encPw);
@@ -104,6 +444,10 @@ public class AdminServiceImpl implements AdminService{
 		int result = mapper.createAdminAccount(member);
 		
 		if(result > 0) {
+			dataVersions.bump(Kind.ADMIN_ACCOUNTS);
+			adminDirectory.reloadAfterCommit(); // 새 계정으로 바로 로그인할 수 있도록 커밋 후 사전 다시 적재
+			auditLogger.record("CREATE_ADMIN_ACCOUNT", "MEMBER", member.getMemberEmail(), "SUCCESS", null);
+			
 			// 4. 계정 발급 정상처리되었다면, 발급된 (평문)비밀번호 리턴하기
 			return rawPw;
 			
@@ -113,10 +457,97 @@ public class AdminServiceImpl implements AdminService{
 
 	}
 	
-	// 관리자 계정 목록
+	// 관리자 계정 일괄 발급
+	// -> 해싱(수 초) 동안 커넥션을 잡고 있지 않도록 메서드는 트랜잭션 없이 실행하고 INSERT 만 트랜잭션으로 실행
 	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public BulkAccountResult createAdminAccounts(List<Member> members) {
+		
+		AccountResult[] results = new AccountResult[members.size()];
+		Map<String, Integer> emailIndex = new HashMap<>(); // 이메일 -> 요청 내 위치 (발급 대상)
+		
+		// 1. 입력값 검사 + 요청 내 중복 제거
+		for(int i = 0; i < members.size(); i++) {
+			Member member = members.get(i);
+			String email = member == null ? null : member.getMemberEmail();
+			
+			if(email == null || !email.contains("@") || member.getMemberNickname() == null 
+					|| member.getMemberNickname().isBlank()) {
+				results[i] = new AccountResult(email, AccountResult.Outcome.INVALID, null);
+				
+			} else if(emailIndex.putIfAbsent(email, i) != null) {
+				results[i] = new AccountResult(email, AccountResult.Outcome.DUPLICATE, null);
+			}
+		}
+		
+		// 2. 이미 사용 중인 이메일 제외 (IN 절 1000개 단위)
+		List<String> emails = new ArrayList<>(emailIndex.keySet());
+		Set<String> existing = new HashSet<>();
+		for(int from = 0; from < emails.size(); from += 1000) {
+			existing.addAll(mapper.selectExistingEmails(emails.subList(from, Math.min(from + 1000, emails.size()))));
+		}
+		
+		for(String email : existing) {
+			int i = emailIndex.remove(email);
+			results[i] = new AccountResult(email, AccountResult.Outcome.ALREADY_EXISTS, null);
+		}
+		
+		List<Member> targets = new ArrayList<>(emailIndex.size());
+		List<String> rawPws = new ArrayList<>(emailIndex.size());
+		
+		for(int i : emailIndex.values()) {
+			targets.add(members.get(i));
+			rawPws.add(Utility.generatePassword());
+		}
+		
+		if(!targets.isEmpty()) {
+			
+			// 3. BCrypt 암호화를 해싱 스레드 풀에서 병렬 실행
+			int parallelism = hashParallelism > 0 ? hashParallelism 
+					: Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+			List<String> encPws = passwordHasher.encodeAll(rawPws, parallelism);
+			
+			// 4. 한 트랜잭션에서 JDBC 배치 INSERT
+			new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+				AdminMapper batchMapper = batchSqlSession.getMapper(AdminMapper.class);
+				
+				for(int i = 0; i < targets.size(); i++) {
+					Member target = targets.get(i);
+					target.setMemberPw(encPws.get(i));
+					batchMapper.createAdminAccount(target);
+					auditLogger.record("CREATE_ADMIN_ACCOUNT", "MEMBER", target.getMemberEmail(), "SUCCESS", "bulk");
+				}
+				
+				List<BatchResult> batchResults = batchSqlSession.flushStatements();
+				log.info("관리자 계정 일괄 발급 : {} 건 (배치 {} 회)", targets.size(), batchResults.size());
+				
+				dataVersions.bump(Kind.ADMIN_ACCOUNTS);
+				adminDirectory.reloadAfterCommit();
+			});
+			
+			for(int i = 0; i < targets.size(); i++) {
+				Member target = targets.get(i);
+				results[emailIndex.get(target.getMemberEmail())] = 
+						new AccountResult(target.getMemberEmail(), AccountResult.Outcome.CREATED, rawPws.get(i));
+			}
+		}
+		
+		return new BulkAccountResult(List.of(results));
+	}
+	
+	// 관리자 계정 목록 (메모리 사전에서 조회)
+	@Override
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public List<Member> adminAccountList() {
-		return mapper.adminAccountList();
+		
+		List<AdminAccount> accounts = adminDirectory.accounts();
+		List<Member> adminList = new ArrayList<>(accounts.size());
+		
+		for(AdminAccount account : accounts) {
+			adminList.add(account.toMember());
+		}
+		
+		return adminList;
 	}
 
 }
@@ -0,0 +1,21 @@
+package edu.kh.admin.main.model.service;
+
+import java.util.List;
+
+import edu.kh.admin.main.model.dto.DailyMemberStat;
+
+public interface MemberStatService {
+
+	/** 일별 회원 통계 갱신
+	 * - 아직 마감되지 않은 지난 날짜를 계산하여 저장(한 번만)하고, 오늘 통계는 다시 계산
+	 */
+	void refresh();
+
+	/** 최근 n일 일별 회원 통계 조회 (메모리에서 조회, MEMBER 테이블 조회 없음)
+	 * @param days : 조회 일수 (오늘 포함)
+	 * @return 날짜 오름차순
+	 * @throws IllegalStateException 아직 통계가 한 번도 계산되지 않은 경우
+	 */
+	List<DailyMemberStat> getDailyStats(int days);
+
+}
@@ -0,0 +1,160 @@
+package edu.kh.admin.main.model.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import edu.kh.admin.main.model.dto.DailyMemberStat;
+import edu.kh.admin.main.model.mapper.MemberStatMapper;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Transactional(rollbackFor = Exception.class)
+@Slf4j
+public class MemberStatServiceImpl implements MemberStatService {
+
+	private final MemberStatMapper mapper;
+
+	// 집계 조회는 읽기 풀, 마감 통계 저장은 쓰기 풀에서 실행
+	private final TransactionTemplate readOnlyTx;
+	private final TransactionTemplate writeTx;
+
+	// 마감된(지난) 날짜 통계 : 한 번 계산되면 변하지 않음
+	private final ConcurrentSkipListMap<LocalDate, DailyMemberStat> closedDays = new ConcurrentSkipListMap<>();
+
+	// 오늘 통계 : 갱신 시마다 통째로 교체
+	private volatile DailyMemberStat today;
+
+	private boolean loaded;
+
+	public MemberStatServiceImpl(MemberStatMapper mapper, PlatformTransactionManager transactionManager) {
+		this.mapper = mapper;
+		this.readOnlyTx = new TransactionTemplate(transactionManager);
+		this.readOnlyTx.setReadOnly(true);
+		this.writeTx = new TransactionTemplate(transactionManager);
+	}
+
+	// 일별 회원 통계 갱신 (스케줄러에서 호출)
+	// -> 조회/저장 트랜잭션을 나누어 실행하므로 메서드 자체는 트랜잭션 없이 실행
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public synchronized void refresh() {
+
+		// 1. 최초 1회 저장된 통계를 메모리로 적재
+		if (!loaded) {
+			for (DailyMemberStat stat : readOnlyTx.execute(status -> mapper.selectDailyStats())) {
+				closedDays.put(stat.getStatDate(), stat);
+			}
+			loaded = true;
+			log.info("일별 회원 통계 {} 일치 적재", closedDays.size());
+		}
+
+		LocalDate todayDate = LocalDate.now();
+		DailyMemberStat current = readOnlyTx.execute(status -> mapper.selectCurrentCounts());
+
+		// 2. 아직 마감되지 않은 지난 날짜 마감
+		closeDays(todayDate, current);
+
+		// 3. 오늘 통계 다시 계산
+		current.setStatDate(todayDate);
+		current.setWithdrawnCount(diff(current.getWithdrawnTotal(), closedDays.get(todayDate.minusDays(1))));
+		today = current;
+	}
+
+	// 지난 날짜 마감 : 마지막 마감일 다음 날 ~ 어제
+	private void closeDays(LocalDate todayDate, DailyMemberStat current) {
+
+		LocalDate yesterday = todayDate.minusDays(1);
+
+		// 이미 어제까지 마감된 경우
+		if (!closedDays.isEmpty() && !closedDays.lastKey().isBefore(yesterday)) return;
+
+		// 마감된 날짜가 하나도 없으면 가입일 기준으로 전체 기간 계산 (최초 1회)
+		LocalDate from = closedDays.isEmpty() ? null : closedDays.lastKey().plusDays(1);
+
+		Map<String, Object> paramMap = new HashMap<>();
+		paramMap.put("from", from);
+		paramMap.put("to", todayDate);
+
+		TreeMap<LocalDate, Integer> signups = new TreeMap<>();
+		for (DailyMemberStat stat : readOnlyTx.execute(status -> mapper.selectSignupCounts(paramMap))) {
+			signups.put(stat.getStatDate(), stat.getSignupCount());
+		}
+
+		LocalDate start = from;
+		if (start == null) {
+			start = signups.isEmpty() ? yesterday : signups.firstKey();
+		}
+
+		Map<LocalDate, DailyMemberStat> closed = new TreeMap<>();
+
+		for (LocalDate date = start; !date.isAfter(yesterday); date = date.plusDays(1)) {
+
+			DailyMemberStat stat = DailyMemberStat.builder()
+					.statDate(date)
+					.signupCount(signups.getOrDefault(date, 0))
+					.build();
+
+			// 어제 종료 시점 회원 수 = 현재 회원 수 - 오늘 가입 회원 수
+			// (탈퇴일 컬럼이 없으므로 그 이전 날짜의 회원 수는 알 수 없음 -> null)
+			if (date.equals(yesterday)) {
+				stat.setActiveCount(current.getActiveCount() - current.getSignupCount());
+				stat.setWithdrawnTotal(current.getWithdrawnTotal());
+				stat.setWithdrawnCount(diff(current.getWithdrawnTotal(), closedDays.get(date.minusDays(1))));
+			}
+
+			closed.put(date, stat);
+		}
+
+		// 마감 통계는 한 트랜잭션으로 저장
+		writeTx.executeWithoutResult(status -> closed.values().forEach(mapper::mergeDailyStat));
+
+		closedDays.putAll(closed);
+		log.info("일별 회원 통계 {} 일치 마감 ({} ~ {})", closed.size(), start, yesterday);
+	}
+
+	// 전날 대비 탈퇴 상태 회원 증감
+	private Integer diff(Integer withdrawnTotal, DailyMemberStat previous) {
+		if (withdrawnTotal == null || previous == null || previous.getWithdrawnTotal() == null) return null;
+		return withdrawnTotal - previous.getWithdrawnTotal();
+	}
+
+	// 최근 n일 일별 회원 통계 조회
+	@Override
+	@Transactional(readOnly = true)
+	public List<DailyMemberStat> getDailyStats(int days) {
+
+		DailyMemberStat current = today;
+
+		if (current == null) {
+			throw new IllegalStateException("일별 회원 통계를 집계하는 중입니다.");
+		}
+
+		LocalDate todayDate = LocalDate.now();
+		List<DailyMemberStat> stats = new ArrayList<>(days);
+
+		for (LocalDate date = todayDate.minusDays(days - 1); !date.isAfter(todayDate); date = date.plusDays(1)) {
+
+			DailyMemberStat stat = date.equals(current.getStatDate()) ? current : closedDays.get(date);
+
+			// 자정 직후 아직 갱신 전이거나 집계 이전 날짜
+			if (stat == null) {
+				stat = DailyMemberStat.builder().statDate(date).build();
+			}
+
+			stats.add(stat);
+		}
+
+		return stats;
+	}
+}
@@ -0,0 +1,34 @@
+package edu.kh.admin.main.model.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import edu.kh.admin.main.model.dto.BoardRow;
+
+public interface ReferenceDataService {
+
+	/** 게시글 목록의 게시판 이름, 작성자 닉네임 채우기
+	 * - 게시판 이름은 메모리 사전에서, 닉네임은 캐시에서 조회하고
+	 *   캐시에 없는 회원 번호만 모아서 한 번에 DB 조회
+	 * @param rows : 게시글 목록 (null 항목은 그대로 유지)
+	 * @return 이름이 채워진 새 목록 (순서 동일)
+	 */
+	<T extends BoardRow<T>> List<T> withNames(List<T> rows);
+
+	/** 게시판 이름 조회
+	 * @param boardCode
+	 * @return 없는 게시판 코드이면 null
+	 */
+	String boardName(int boardCode);
+
+	/** 게시판 종류 사전 다시 적재 (게시판 추가/이름 변경 후 호출)
+	 * @return 적재된 게시판 종류 수
+	 */
+	int reloadBoardTypes();
+
+	/** 회원 닉네임 캐시 항목 제거 (닉네임 변경 후 호출)
+	 * @param memberNos : null 이면 전체 제거
+	 */
+	void evictNicknames(Collection<Integer> memberNos);
+
+}
@@ -0,0 +1,204 @@
+package edu.kh.admin.main.model.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import edu.kh.admin.main.model.dto.Board;
+import edu.kh.admin.main.model.dto.BoardRow;
+import edu.kh.admin.main.model.dto.Member;
+import edu.kh.admin.main.model.mapper.ReferenceDataMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시판 종류 사전 + 회원 닉네임 캐시
+ * - 삭제 게시글 목록/통계 쿼리가 BOARD_TYPE, MEMBER 를 JOIN 하지 않고 BOARD_CODE, MEMBER_NO 만 조회하면
+ *   이름은 여기서 메모리로 채움
+ * - 게시판 종류 : 몇 건 되지 않고 거의 바뀌지 않으므로 전체를 불변 Map 으로 들고 있다가 통째로 교체
+ * - 닉네임 : 회원 수만큼 늘어날 수 있으므로 최대 크기를 제한한 캐시, 일정 시간이 지나면 다시 조회
+ *   (닉네임은 사용자 서비스에서 변경되므로 evictNicknames() 호출 전에도 최대 ttl 이후에는 반영됨)
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class ReferenceDataServiceImpl implements ReferenceDataService {
+
+	// Oracle IN 절 최대 개수
+	private static final int IN_CHUNK_SIZE = 1000;
+
+	private final ReferenceDataMapper mapper;
+
+	// 게시판 코드 -> 게시판 이름 (읽기 전용, 다시 적재 시 통째로 교체)
+	private volatile Map<Integer, String> boardTypes;
+
+	// 없는 게시판 코드 조회 시 다시 적재하는 최소 간격(ms) -> 잘못된 코드로 인한 반복 조회 방지
+	private final long missReloadIntervalMillis;
+	private final AtomicLong lastReloadAt = new AtomicLong();
+
+	private final Cache<Integer, String> nicknames;
+
+	private final Counter boardTypeHits;
+	private final Counter boardTypeMisses;
+
+	public ReferenceDataServiceImpl(ReferenceDataMapper mapper, MeterRegistry meterRegistry,
+			@Value("${reference-data.nickname.max-size:10000}") long nicknameMaxSize,
+			@Value("${reference-data.nickname.ttl:600000}") long nicknameTtlMillis,
+			@Value("${reference-data.board-type.miss-reload-interval:10000}") long missReloadIntervalMillis) {
+		this.mapper = mapper;
+		this.missReloadIntervalMillis = missReloadIntervalMillis;
+
+		this.nicknames = Caffeine.newBuilder()
+				.maximumSize(nicknameMaxSize)
+				.expireAfterWrite(Duration.ofMillis(nicknameTtlMillis))
+				.recordStats()
+				.build();
+
+		// cache.gets{cache=memberNickname,result=hit|miss}, cache.size, cache.evictions 등
+		CaffeineCacheMetrics.monitor(meterRegistry, nicknames, "memberNickname");
+
+		this.boardTypeHits = Counter.builder("reference.board-type.lookups").tag("result", "hit")
+				.register(meterRegistry);
+		this.boardTypeMisses = Counter.builder("reference.board-type.lookups").tag("result", "miss")
+				.register(meterRegistry);
+
+		Gauge.builder("reference.cache.hit.ratio", nicknames, c -> c.stats().hitRate())
+				.tag("cache", "memberNickname")
+				.register(meterRegistry);
+		Gauge.builder("reference.cache.hit.ratio", this, ReferenceDataServiceImpl::boardTypeHitRatio)
+				.tag("cache", "boardType")
+				.register(meterRegistry);
+		Gauge.builder("reference.board-type.size", this, s -> s.boardTypes == null ? 0 : s.boardTypes.size())
+				.register(meterRegistry);
+	}
+
+	// 게시글 목록의 게시판 이름, 작성자 닉네임 채우기
+	@Override
+	public <T extends BoardRow<T>> List<T> withNames(List<T> rows) {
+
+		Set<Integer> memberNos = new LinkedHashSet<>();
+
+		for (T row : rows) {
+			if (row != null) memberNos.add(row.memberNo());
+		}
+
+		if (memberNos.isEmpty()) return rows;
+
+		// 캐시에 없는 회원 번호만 모아서 한 번에 조회
+		Map<Integer, String> found = nicknames.getAll(memberNos, this::loadNicknames);
+
+		List<T> named = new ArrayList<>(rows.size());
+
+		for (T row : rows) {
+			named.add(row == null ? null : row.withNames(boardName(row.boardCode()), found.get(row.memberNo())));
+		}
+
+		return named;
+	}
+
+	// 캐시에 없는 회원 닉네임 일괄 조회 (IN 절 1000개 단위)
+	private Map<Integer, String> loadNicknames(Set<? extends Integer> memberNos) {
+
+		List<Integer> keys = new ArrayList<>(memberNos);
+		Map<Integer, String> result = new HashMap<>(keys.size() * 2);
+
+		for (int from = 0; from < keys.size(); from += IN_CHUNK_SIZE) {
+			List<Integer> chunk = keys.subList(from, Math.min(from + IN_CHUNK_SIZE, keys.size()));
+
+			for (Member member : mapper.selectNicknames(chunk)) {
+				result.put(member.getMemberNo(), member.getMemberNickname());
+			}
+		}
+
+		return result;
+	}
+
+	// 게시판 이름 조회
+	@Override
+	public String boardName(int boardCode) {
+
+		Map<Integer, String> current = boardTypes;
+
+		if (current == null) {
+			reloadBoardTypes(); // 최초 1회
+			current = boardTypes;
+		}
+
+		String name = current.get(boardCode);
+
+		if (name != null) {
+			boardTypeHits.increment();
+			return name;
+		}
+
+		boardTypeMisses.increment();
+
+		// 새로 추가된 게시판일 수 있으므로 다시 적재 (최소 간격 이내에는 한 번만)
+		long last = lastReloadAt.get();
+		long now = System.currentTimeMillis();
+
+		if (now - last >= missReloadIntervalMillis && lastReloadAt.compareAndSet(last, now)) {
+			reloadBoardTypes();
+			return boardTypes.get(boardCode);
+		}
+
+		return null;
+	}
+
+	// 게시판 종류 사전 다시 적재
+	@Override
+	public synchronized int reloadBoardTypes() {
+
+		Map<Integer, String> loaded = new HashMap<>();
+
+		for (Board type : mapper.selectBoardTypes()) {
+			loaded.put(type.getBoardCode(), type.getBoardName());
+		}
+
+		Map<Integer, String> previous = boardTypes;
+		boardTypes = Map.copyOf(loaded);
+		lastReloadAt.set(System.currentTimeMillis());
+
+		if (!loaded.equals(previous)) {
+			log.info("게시판 종류 사전 적재 ({} 건)", loaded.size());
+		}
+
+		return loaded.size();
+	}
+
+	// 회원 닉네임 캐시 항목 제거
+	@Override
+	public void evictNicknames(Collection<Integer> memberNos) {
+
+		if (memberNos == null) {
+			nicknames.invalidateAll();
+			log.info("회원 닉네임 캐시 전체 제거");
+			return;
+		}
+
+		nicknames.invalidateAll(memberNos);
+	}
+
+	// 게시판 종류 사전 적중률
+	private double boardTypeHitRatio() {
+		double hits = boardTypeHits.count();
+		double total = hits + boardTypeMisses.count();
+		return total == 0 ? 1.0 : hits / total;
+	}
+}
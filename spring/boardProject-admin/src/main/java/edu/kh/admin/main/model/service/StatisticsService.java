@@ -0,0 +1,29 @@
+package edu.kh.admin.main.model.service;
+
+import java.util.concurrent.CompletableFuture;
+
+import edu.kh.admin.main.model.dto.StatisticsDashboard;
+import edu.kh.admin.main.model.dto.StatisticsSnapshot;
+
+public interface StatisticsService {
+
+	/** 현재 통계 스냅샷 조회
+	 * - 아직 계산된 스냅샷이 없으면 계산이 끝날 때까지 대기
+	 * @return
+	 */
+	StatisticsSnapshot getSnapshot();
+
+	/** 통계 스냅샷 재계산
+	 * - 이미 재계산이 진행 중이면 새로 계산하지 않고 진행 중인 결과를 함께 기다림
+	 * @return
+	 */
+	CompletableFuture<StatisticsSnapshot> refresh();
+
+	/** 통계 대시보드 통합 조회
+	 * - 최대 조회/좋아요/댓글 수 게시글 + 신규 가입 회원을 동시에 조회하여 한 번에 반환
+	 * - 항목별 제한 시간을 넘긴 항목은 null 로 채우고 failedSections 에 기록
+	 * @return
+	 */
+	StatisticsDashboard getDashboard();
+
+}
@@ -0,0 +1,201 @@
+package edu.kh.admin.main.model.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import edu.kh.admin.main.model.dto.LeaderBoard;
+import edu.kh.admin.main.model.dto.NewMember;
+import edu.kh.admin.main.model.dto.StatisticsDashboard;
+import edu.kh.admin.main.model.dto.StatisticsSnapshot;
+import edu.kh.admin.main.model.mapper.AdminMapper;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class StatisticsServiceImpl implements StatisticsService {
+
+	private final AdminMapper mapper;
+	private final ExecutorService statisticsExecutor;
+	private final ReferenceDataService referenceData;
+	private final long sectionTimeoutMillis;
+
+	// 통계 쿼리는 읽기 전용 트랜잭션 -> 읽기 풀(readDataSource)에서 커넥션 사용
+	private final TransactionTemplate readOnlyTx;
+
+	// 현재 스냅샷 (재계산 완료 시 통째로 교체)
+	private final AtomicReference<StatisticsSnapshot> snapshot = new AtomicReference<>();
+
+	// 진행 중인 재계산 (동시에 요청이 와도 한 번만 계산하도록 공유)
+	private final AtomicReference<CompletableFuture<StatisticsSnapshot>> inFlight = new AtomicReference<>();
+
+	public StatisticsServiceImpl(AdminMapper mapper,
+			@Qualifier("statisticsExecutor") ExecutorService statisticsExecutor,
+			ReferenceDataService referenceData,
+			@Value("${statistics.section-timeout:3000}") long sectionTimeoutMillis,
+			PlatformTransactionManager transactionManager) {
+		this.mapper = mapper;
+		this.statisticsExecutor = statisticsExecutor;
+		this.referenceData = referenceData;
+		this.sectionTimeoutMillis = sectionTimeoutMillis;
+		this.readOnlyTx = new TransactionTemplate(transactionManager);
+		this.readOnlyTx.setReadOnly(true);
+
+		// 트랜잭션 제한 시간(초)을 구문 제한 시간(Statement.setQueryTimeout)으로 적용
+		// -> orTimeout 은 기다리기만 멈추므로, 제한 시간을 넘긴 집계 쿼리는 DB 에서도 취소되어
+		//    통계 스레드와 읽기 풀 커넥션을 바로 반환함
+		this.readOnlyTx.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(sectionTimeoutMillis + 999)));
+	}
+
+	// 현재 통계 스냅샷 조회
+	@Override
+	public StatisticsSnapshot getSnapshot() {
+		StatisticsSnapshot current = snapshot.get();
+
+		if (current != null) return current;
+
+		// 서버 시작 직후 등 아직 스냅샷이 없는 경우 -> 계산 완료까지 대기
+		return refresh().join();
+	}
+
+	// 통계 스냅샷 재계산 (동시 요청 병합)
+	@Override
+	public CompletableFuture<StatisticsSnapshot> refresh() {
+
+		while (true) {
+			// 이미 재계산 중이면 그 결과를 함께 기다림
+			CompletableFuture<StatisticsSnapshot> running = inFlight.get();
+			if (running != null) return running;
+
+			CompletableFuture<StatisticsSnapshot> mine = new CompletableFuture<>();
+
+			// 먼저 등록한 요청만 실제로 계산
+			if (inFlight.compareAndSet(null, mine)) {
+				try {
+					StatisticsSnapshot next = compute();
+					snapshot.set(next);
+					mine.complete(next);
+
+				} catch (Exception e) {
+					// 실패 시 이전 스냅샷 유지
+					log.error("통계 스냅샷 계산 중 예외 발생", e);
+					mine.completeExceptionally(e);
+
+				} finally {
+					inFlight.compareAndSet(mine, null);
+				}
+				return mine;
+			}
+		}
+	}
+
+	// 통계 대시보드 통합 조회
+	@Override
+	public StatisticsDashboard getDashboard() {
+		List<String> newMemberFailed = Collections.synchronizedList(new ArrayList<>());
+
+		// 1. 신규 회원 조회는 통계 스레드 풀에서 동시에 실행
+		CompletableFuture<List<NewMember>> newMembers = section("newMember", mapper::getNewMember, null, newMemberFailed);
+
+		// 2. 최대 조회/좋아요/댓글 수는 메모리 스냅샷에서 조회 (요청 스레드)
+		StatisticsSnapshot current = getSnapshot();
+		List<NewMember> members = newMembers.join();
+
+		// 스냅샷 계산 시 갱신하지 못한 항목(이전 값 유지) + 신규 회원 조회 실패
+		List<String> failedSections = new ArrayList<>(current.getFailedSections());
+		failedSections.addAll(newMemberFailed);
+
+		return new StatisticsDashboard(
+				current.getMaxReadCount(),
+				current.getMaxLikeCount(),
+				current.getMaxCommentCount(),
+				members,
+				current.getAgeSeconds(),
+				failedSections);
+	}
+
+	// 통계 집계 쿼리 병렬 수행
+	// -> 제한 시간 안에 끝나지 않거나 실패한 항목은 이전 스냅샷 값 유지
+	private StatisticsSnapshot compute() {
+		long start = System.currentTimeMillis();
+		StatisticsSnapshot previous = snapshot.get();
+		List<String> failedSections = Collections.synchronizedList(new ArrayList<>());
+
+		CompletableFuture<LeaderBoard> maxReadCount = section("maxReadCount", mapper::maxReadCount,
+				previous == null ? null : previous.getMaxReadCount(), failedSections);
+		CompletableFuture<LeaderBoard> maxLikeCount = section("maxLikeCount", mapper::maxLikeCount,
+				previous == null ? null : previous.getMaxLikeCount(), failedSections);
+		CompletableFuture<LeaderBoard> maxCommentCount = section("maxCommentCount", mapper::maxCommentCount,
+				previous == null ? null : previous.getMaxCommentCount(), failedSections);
+
+		List<LeaderBoard> leaders = Arrays.asList(maxReadCount.join(), maxLikeCount.join(), maxCommentCount.join());
+
+		// 게시판 이름, 작성자 닉네임 채우기 (세 게시글의 작성자를 한 번에 조회)
+		try {
+			leaders = referenceData.withNames(leaders);
+		} catch (Exception e) {
+			log.warn("통계 게시글 게시판 이름/닉네임 조회 실패 : {}", e.toString());
+		}
+
+		// 갱신한 항목은 지금 시각, 갱신하지 못한 항목은 이전 값의 계산 시각 유지
+		long now = System.currentTimeMillis();
+		Map<String, Long> sectionComputedAt = new HashMap<>();
+
+		for (String name : List.of("maxReadCount", "maxLikeCount", "maxCommentCount")) {
+			if (!failedSections.contains(name)) {
+				sectionComputedAt.put(name, now);
+			} else if (previous != null && previous.getSectionComputedAt().containsKey(name)) {
+				sectionComputedAt.put(name, previous.getSectionComputedAt().get(name));
+			}
+		}
+
+		StatisticsSnapshot next = new StatisticsSnapshot(leaders.get(0), leaders.get(1), leaders.get(2),
+				now, Map.copyOf(sectionComputedAt), List.copyOf(failedSections));
+
+		if (!failedSections.isEmpty()) {
+			log.warn("통계 스냅샷 일부 항목 갱신 실패 {}, 이전 값 사용", failedSections);
+		}
+		log.debug("통계 스냅샷 계산 완료 ({}ms)", next.getComputedAt() - start);
+
+		return next;
+	}
+
+	/**
+	 * 통계 항목 하나를 통계 스레드 풀에서 읽기 전용 트랜잭션으로 실행
+	 * - 제한 시간(statistics.section-timeout)을 넘기거나 실패하면 fallback 값으로 완료됨
+	 *   (실행 중인 쿼리는 트랜잭션 제한 시간으로 DB 에서 취소됨)
+	 *   -> 느린 집계 하나가 다른 항목을 붙잡지 않음
+	 */
+	private <T> CompletableFuture<T> section(String name, Supplier<T> query, T fallback, List<String> failedSections) {
+		try {
+			return CompletableFuture.supplyAsync(() -> readOnlyTx.execute(status -> query.get()), statisticsExecutor)
+					.orTimeout(sectionTimeoutMillis, TimeUnit.MILLISECONDS)
+					.exceptionally(e -> {
+						log.warn("통계 항목 [{}] 조회 실패 : {}", name, e.toString());
+						failedSections.add(name);
+						return fallback;
+					});
+
+		} catch (RejectedExecutionException e) {
+			// 통계 스레드 풀 포화
+			log.warn("통계 항목 [{}] 실행 거절 (스레드 풀 포화)", name);
+			failedSections.add(name);
+			return CompletableFuture.completedFuture(fallback);
+		}
+	}
+}
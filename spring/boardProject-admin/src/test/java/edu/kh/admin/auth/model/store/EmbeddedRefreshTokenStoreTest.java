@@ -0,0 +1,227 @@
+package edu.kh.admin.auth.model.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.kh.admin.auth.model.dto.RefreshToken;
+import edu.kh.admin.common.util.Utility;
+
+class EmbeddedRefreshTokenStoreTest {
+
+	@TempDir
+	Path dir;
+
+	private EmbeddedRefreshTokenStore store;
+
+	@AfterEach
+	void tearDown() throws IOException {
+		if (store != null) store.close();
+	}
+
+	@Test
+	void saveFindReplaceDelete() throws IOException {
+		store = open(1 << 20);
+
+		save(1, "a@kh.or.kr", "token-1");
+		save(2, "b@kh.or.kr", "token-2");
+
+		RefreshToken found = find("token-1");
+		assertThat(found.getMemberNo()).isEqualTo(1);
+		assertThat(found.getMemberEmail()).isEqualTo("a@kh.or.kr");
+		assertThat(find("unknown")).isNull();
+		assertThat(store.findByHash("not-hex")).isNull();
+
+		// 같은 회원이 다시 로그인하면 이전 토큰은 교체
+		save(1, "a@kh.or.kr", "token-1b");
+		assertThat(find("token-1")).isNull();
+		assertThat(find("token-1b").getMemberNo()).isEqualTo(1);
+
+		store.deleteByEmail("a@kh.or.kr");
+		assertThat(find("token-1b")).isNull();
+		assertThat(find("token-2").getMemberNo()).isEqualTo(2);
+	}
+
+	@Test
+	void replayAfterRestart() throws IOException {
+		store = open(1 << 20);
+		save(1, "a@kh.or.kr", "token-1");
+		save(2, "b@kh.or.kr", "token-2");
+		save(1, "a@kh.or.kr", "token-1b");
+		store.deleteByEmail("b@kh.or.kr");
+
+		reopen(1 << 20);
+
+		assertThat(find("token-1")).isNull();
+		assertThat(find("token-1b").getMemberNo()).isEqualTo(1);
+		assertThat(find("token-2")).isNull();
+	}
+
+	@Test
+	void replayIgnoresTruncatedTail() throws IOException {
+		store = open(1 << 20);
+		save(1, "a@kh.or.kr", "token-1");
+		save(2, "b@kh.or.kr", "token-2");
+		store.close();
+
+		// 기록 도중 중단된 레코드 : 길이는 기록됐지만 내용과 CRC 가 맞지 않음
+		Path log = onlyLogFile();
+		int end = logEnd(log);
+		try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.allocate(12).putInt(60).putInt(12345).putInt(1).flip(), end);
+		}
+
+		store = open(1 << 20);
+		assertThat(find("token-1").getMemberNo()).isEqualTo(1);
+		assertThat(find("token-2").getMemberNo()).isEqualTo(2);
+
+		// 손상된 영역을 지웠으므로 이후 기록도 재시작 후 복구됨
+		save(3, "c@kh.or.kr", "token-3");
+		reopen(1 << 20);
+		assertThat(find("token-2").getMemberNo()).isEqualTo(2);
+		assertThat(find("token-3").getMemberNo()).isEqualTo(3);
+	}
+
+	@Test
+	void replayStopsAtCorruptedRecord() throws IOException {
+		store = open(1 << 20);
+		save(1, "a@kh.or.kr", "token-1");
+		save(2, "b@kh.or.kr", "token-2");
+		save(3, "c@kh.or.kr", "token-3");
+		store.close();
+
+		// 두 번째 레코드의 이메일 마지막 byte 변조 -> CRC 불일치
+		Path log = onlyLogFile();
+		int second = recordEnd(log, 0);
+		int third = recordEnd(log, second);
+		try (FileChannel channel = FileChannel.open(log, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			ByteBuffer b = ByteBuffer.allocate(1);
+			channel.read(b, third - 1);
+			channel.write(ByteBuffer.wrap(new byte[] { (byte) (b.get(0) ^ 0x7F) }), third - 1);
+		}
+
+		store = open(1 << 20);
+		assertThat(find("token-1").getMemberNo()).isEqualTo(1);
+		assertThat(find("token-2")).isNull();
+		assertThat(find("token-3")).isNull();
+
+		save(4, "d@kh.or.kr", "token-4");
+		reopen(1 << 20);
+		assertThat(find("token-1").getMemberNo()).isEqualTo(1);
+		assertThat(find("token-3")).isNull();
+		assertThat(find("token-4").getMemberNo()).isEqualTo(4);
+	}
+
+	@Test
+	void compactKeepsOnlyLiveTokens() throws IOException {
+		store = open(0);
+		save(2, "b@kh.or.kr", "token-2");
+		for (int i = 0; i < 100; i++) {
+			save(1, "a@kh.or.kr", "token-1-" + i);
+		}
+
+		// 교체된 토큰이 절반을 넘을 때마다 다음 세대 파일로 옮기고 이전 파일은 삭제
+		Path log = onlyLogFile();
+		assertThat(log.getFileName().toString()).isNotEqualTo("tokens-000001.log");
+		assertThat(logEnd(log)).isLessThan(4 * recordEnd(log, 0));
+
+		reopen(0);
+		assertThat(find("token-1-98")).isNull();
+		assertThat(find("token-1-99").getMemberNo()).isEqualTo(1);
+		assertThat(find("token-2").getMemberNo()).isEqualTo(2);
+	}
+
+	@Test
+	void deleteExpiredInChunks() throws IOException {
+		store = open(1 << 20);
+		for (int i = 1; i <= 5; i++) {
+			save(i, "expired" + i + "@kh.or.kr", "expired-" + i, -3_600_000);
+		}
+		save(10, "valid@kh.or.kr", "valid", 3_600_000);
+
+		LocalDateTime now = LocalDateTime.now();
+		assertThat(store.deleteExpired(now, 2)).isEqualTo(2);
+		assertThat(store.deleteExpired(now, 2)).isEqualTo(2);
+		assertThat(store.deleteExpired(now, 2)).isEqualTo(1);
+		assertThat(store.deleteExpired(now, 2)).isZero();
+
+		assertThat(find("expired-5")).isNull();
+		assertThat(find("valid").getMemberNo()).isEqualTo(10);
+	}
+
+	@Test
+	void deleteExpiredWrapsAroundFromLastPosition() throws IOException {
+		store = open(1 << 20);
+		for (int i = 1; i <= 3; i++) {
+			save(i, "expired" + i + "@kh.or.kr", "expired-" + i, -3_600_000);
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		assertThat(store.deleteExpired(now, 2)).isEqualTo(2);
+
+		// 이미 지나간 앞쪽 칸에 새로 저장된 만료 토큰도 한 바퀴 돌아 삭제
+		save(4, "expired4@kh.or.kr", "expired-4", -3_600_000);
+		assertThat(store.deleteExpired(now, 10)).isEqualTo(2);
+		assertThat(store.deleteExpired(now, 10)).isZero();
+	}
+
+	// ------------------------------------------------------------------
+
+	private EmbeddedRefreshTokenStore open(long compactMinBytes) throws IOException {
+		EmbeddedRefreshTokenStore opened = new EmbeddedRefreshTokenStore(dir.toString(), 4096, compactMinBytes, false);
+		opened.open();
+		return opened;
+	}
+
+	private void reopen(long compactMinBytes) throws IOException {
+		store.close();
+		store = open(compactMinBytes);
+	}
+
+	private void save(int memberNo, String email, String token) {
+		save(memberNo, email, token, 3_600_000);
+	}
+
+	private void save(int memberNo, String email, String token, long expiresInMillis) {
+		store.save(memberNo, email, token, Utility.hashToken(token),
+				new Date(System.currentTimeMillis() + expiresInMillis));
+	}
+
+	private RefreshToken find(String token) {
+		return store.findByHash(Utility.hashToken(token));
+	}
+
+	private Path onlyLogFile() throws IOException {
+		try (Stream<Path> list = Files.list(dir)) {
+			List<Path> logs = list.filter(p -> p.getFileName().toString().endsWith(".log")).toList();
+			assertThat(logs).hasSize(1);
+			return logs.get(0);
+		}
+	}
+
+	// pos 위치 레코드의 끝 위치 ([길이 int][CRC int][내용])
+	private static int recordEnd(Path log, int pos) throws IOException {
+		return pos + 8 + ByteBuffer.wrap(Files.readAllBytes(log)).getInt(pos);
+	}
+
+	// 길이가 0 인 첫 위치 = 로그 끝
+	private static int logEnd(Path log) throws IOException {
+		ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(log));
+		int pos = 0;
+		while (buf.getInt(pos) != 0) pos += 8 + buf.getInt(pos);
+		return pos;
+	}
+}
@@ -0,0 +1,123 @@
+package edu.kh.admin.auth.model.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LongIntIndexTest {
+
+	@Test
+	void putGetRemove() {
+		LongIntIndex index = new LongIntIndex(8);
+
+		index.put(1L, 10);
+		index.put(-5L, 20);
+		index.put(Long.MAX_VALUE, 30);
+
+		assertThat(index.get(1L)).isEqualTo(10);
+		assertThat(index.get(-5L)).isEqualTo(20);
+		assertThat(index.get(Long.MAX_VALUE)).isEqualTo(30);
+		assertThat(index.get(2L)).isEqualTo(LongIntIndex.MISSING);
+		assertThat(index.size()).isEqualTo(3);
+
+		// 같은 키는 값만 교체
+		index.put(1L, 11);
+		assertThat(index.get(1L)).isEqualTo(11);
+		assertThat(index.size()).isEqualTo(3);
+
+		assertThat(index.remove(1L)).isEqualTo(11);
+		assertThat(index.remove(1L)).isEqualTo(LongIntIndex.MISSING);
+		assertThat(index.get(1L)).isEqualTo(LongIntIndex.MISSING);
+		assertThat(index.size()).isEqualTo(2);
+
+		index.clear();
+		assertThat(index.size()).isZero();
+		assertThat(index.get(-5L)).isEqualTo(LongIntIndex.MISSING);
+	}
+
+	@Test
+	void resize() {
+		LongIntIndex index = new LongIntIndex(8);
+
+		for (int i = 0; i < 10_000; i++) {
+			index.put(i * 31L, i);
+		}
+
+		assertThat(index.size()).isEqualTo(10_000);
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(index.get(i * 31L)).isEqualTo(i);
+		}
+		assertThat(index.get(7L)).isEqualTo(LongIntIndex.MISSING);
+	}
+
+	@Test
+	void removeShiftsCollidingKeysBack() {
+		// 테이블 크기 16 에서 마지막 칸(15)을 원래 위치로 갖는 키 -> 탐사 구간이 0 번 칸으로 넘어감
+		LongIntIndex index = new LongIntIndex(8);
+		List<Long> colliding = keysWithHome(15, 16, 3);
+		long next = keysWithHome(0, 16, 1).get(0);
+
+		for (int i = 0; i < colliding.size(); i++) {
+			index.put(colliding.get(i), i);
+		}
+		index.put(next, 100); // 원래 위치 0 이지만 15, 0, 1 이 차 있어 2 번 칸에 저장
+
+		// 탐사 구간 맨 앞 키를 지워도 뒤 키들을 모두 찾을 수 있어야 함
+		assertThat(index.remove(colliding.get(0))).isZero();
+		assertThat(index.get(colliding.get(1))).isEqualTo(1);
+		assertThat(index.get(colliding.get(2))).isEqualTo(2);
+		assertThat(index.get(next)).isEqualTo(100);
+
+		// 가운데 키 삭제
+		assertThat(index.remove(colliding.get(2))).isEqualTo(2);
+		assertThat(index.get(colliding.get(1))).isEqualTo(1);
+		assertThat(index.get(next)).isEqualTo(100);
+
+		assertThat(index.remove(next)).isEqualTo(100);
+		assertThat(index.get(colliding.get(1))).isEqualTo(1);
+		assertThat(index.size()).isEqualTo(1);
+	}
+
+	@Test
+	void matchesHashMap() {
+		// 좁은 키 범위로 충돌과 삭제를 많이 발생시키며 HashMap 과 결과 비교
+		Random random = new Random(42);
+		LongIntIndex index = new LongIntIndex(8);
+		Map<Long, Integer> expected = new HashMap<>();
+
+		for (int i = 0; i < 100_000; i++) {
+			long key = random.nextInt(512) - 256;
+
+			switch (random.nextInt(3)) {
+			case 0 -> {
+				int value = random.nextInt(1_000);
+				index.put(key, value);
+				expected.put(key, value);
+			}
+			case 1 -> {
+				Integer removed = expected.remove(key);
+				assertThat(index.remove(key)).isEqualTo(removed == null ? LongIntIndex.MISSING : removed);
+			}
+			default -> assertThat(index.get(key)).isEqualTo(expected.getOrDefault(key, LongIntIndex.MISSING));
+			}
+		}
+
+		assertThat(index.size()).isEqualTo(expected.size());
+		expected.forEach((key, value) -> assertThat(index.get(key)).isEqualTo(value));
+	}
+
+	// LongIntIndex.slot 과 같은 계산으로 원래 위치가 home 인 키 찾기
+	private static List<Long> keysWithHome(int home, int capacity, int count) {
+		List<Long> keys = new ArrayList<>();
+		for (long key = 1; keys.size() < count; key++) {
+			if (((int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & (capacity - 1)) == home) keys.add(key);
+		}
+		return keys;
+	}
+}
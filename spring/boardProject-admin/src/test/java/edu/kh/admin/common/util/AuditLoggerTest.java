@@ -0,0 +1,200 @@
+package edu.kh.admin.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import edu.kh.admin.common.util.AuditLogger.OverflowPolicy;
+import edu.kh.admin.main.model.dto.AuditEvent;
+import edu.kh.admin.main.model.mapper.AuditLogMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuditLoggerTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final AuditTable table = new AuditTable();
+	private final SqlSessionTemplate batchSession = mock(SqlSessionTemplate.class);
+
+	private AuditLogger auditLogger;
+
+	@BeforeEach
+	void setUp() {
+		when(batchSession.getMapper(AuditLogMapper.class)).thenReturn(table);
+		when(batchSession.flushStatements()).thenAnswer(invocation -> table.flush());
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (auditLogger != null && auditLogger.isRunning()) auditLogger.stop();
+	}
+
+	@Test
+	void writesBufferedEventsBeforeStop() {
+		auditLogger = auditLogger(16, OverflowPolicy.DROP, 0);
+		auditLogger.start();
+
+		for (int i = 0; i < 3; i++) {
+			record(i, "ok");
+		}
+		auditLogger.stop();
+
+		assertThat(table.committed).hasSize(3);
+		assertThat(count("audit.write", "success")).isEqualTo(3.0);
+		assertThat(count("audit.events", "published")).isEqualTo(3.0);
+	}
+
+	@Test
+	void failedBatchDropsOnlyBadRow() {
+		auditLogger = auditLogger(16, OverflowPolicy.DROP, 0);
+
+		// 저장 스레드 시작 전에 넣어 두어 한 배치로 저장되게 함
+		record(1, "ok");
+		record(2, AuditTable.BAD);
+		record(3, "ok");
+
+		auditLogger.start();
+		auditLogger.stop();
+
+		assertThat(table.committed.stream().map(AuditEvent::targetId).toList()).containsExactly("1", "3");
+		assertThat(count("audit.write", "success")).isEqualTo(2.0);
+		assertThat(count("audit.write", "failed")).isEqualTo(1.0);
+	}
+
+	@Test
+	void truncatesFieldsToColumnWidths() {
+		auditLogger = auditLogger(16, OverflowPolicy.DROP, 0);
+
+		String longEmail = "a".repeat(80) + "@kh.or.kr";
+		String longDetail = "가".repeat(100); // 300 byte
+
+		auditLogger.recordAs(longEmail, "127.0.0.1", "LOGIN", "MEMBER", "x".repeat(60), "FAIL", longDetail);
+		auditLogger.start();
+		auditLogger.stop();
+
+		AuditEvent saved = table.committed.get(0);
+		assertThat(saved.actorEmail()).isEqualTo("a".repeat(50));
+		assertThat(saved.targetId().length()).isEqualTo(50);
+		assertThat(saved.detail().getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(200);
+		assertThat(saved.detail()).isEqualTo("가".repeat(66));
+	}
+
+	@Test
+	void dropPolicyCountsDroppedEvents() {
+		auditLogger = auditLogger(2, OverflowPolicy.DROP, 0);
+
+		// 저장 스레드가 없으므로 버퍼 크기(2)를 넘는 이벤트는 버려짐
+		for (int i = 0; i < 5; i++) {
+			record(i, "ok");
+		}
+
+		assertThat(count("audit.events", "published")).isEqualTo(2.0);
+		assertThat(count("audit.events", "dropped")).isEqualTo(3.0);
+
+		auditLogger.start();
+		auditLogger.stop();
+		assertThat(table.committed).hasSize(2);
+	}
+
+	@Test
+	void blockPolicyDropsAfterTimeout() {
+		auditLogger = auditLogger(2, OverflowPolicy.BLOCK, 20);
+
+		record(1, "ok");
+		record(2, "ok");
+
+		long start = System.nanoTime();
+		record(3, "ok");
+		long waitedMillis = (System.nanoTime() - start) / 1_000_000;
+
+		assertThat(waitedMillis).isGreaterThanOrEqualTo(20L);
+		assertThat(count("audit.events", "published")).isEqualTo(2.0);
+		assertThat(count("audit.events", "dropped")).isEqualTo(1.0);
+	}
+
+	@Test
+	void blockPolicyWaitsForWriter() {
+		auditLogger = auditLogger(2, OverflowPolicy.BLOCK, 5_000);
+		auditLogger.start();
+
+		for (int i = 0; i < 50; i++) {
+			record(i, "ok");
+		}
+		auditLogger.stop();
+
+		assertThat(count("audit.events", "dropped")).isZero();
+		assertThat(table.committed).hasSize(50);
+	}
+
+	// ------------------------------------------------------------------
+
+	private AuditLogger auditLogger(int capacity, OverflowPolicy policy, long blockTimeoutMillis) {
+		return new AuditLogger(batchSession, table, registry, capacity, 100, 10, policy, blockTimeoutMillis,
+				5_000, 10_000);
+	}
+
+	private void record(int targetId, String detail) {
+		auditLogger.recordAs("admin@kh.or.kr", "127.0.0.1", "RESTORE_MEMBER", "MEMBER", targetId, "SUCCESS", detail);
+	}
+
+	private double count(String name, String result) {
+		return registry.get(name).tag("result", result).counter().count();
+	}
+
+	/**
+	 * TB_ADMIN_AUDIT_LOG 대신 사용하는 메모리 테이블 (배치 INSERT + 트랜잭션 흉내)
+	 * - detail 이 BAD 인 행이 포함된 배치는 flushStatements 에서 실패 (ORA-12899 등)
+	 */
+	private static class AuditTable implements AuditLogMapper, PlatformTransactionManager {
+
+		static final String BAD = "bad";
+
+		final List<AuditEvent> committed = new ArrayList<>();
+		private final List<AuditEvent> pending = new ArrayList<>(); // 배치에 쌓인 INSERT
+		private final List<AuditEvent> staged = new ArrayList<>();  // 실행되었지만 커밋 전
+
+		@Override
+		public int insertAuditLog(AuditEvent event) {
+			pending.add(event);
+			return 0;
+		}
+
+		List<Object> flush() {
+			boolean failed = pending.stream().anyMatch(event -> BAD.equals(event.detail()));
+			if (!failed) staged.addAll(pending);
+			pending.clear();
+
+			if (failed) throw new IllegalStateException("ORA-12899: value too large for column");
+			return List.of();
+		}
+
+		@Override
+		public TransactionStatus getTransaction(TransactionDefinition definition) {
+			return new SimpleTransactionStatus();
+		}
+
+		@Override
+		public void commit(TransactionStatus status) {
+			committed.addAll(staged);
+			staged.clear();
+		}
+
+		@Override
+		public void rollback(TransactionStatus status) {
+			staged.clear();
+			pending.clear();
+		}
+	}
+}
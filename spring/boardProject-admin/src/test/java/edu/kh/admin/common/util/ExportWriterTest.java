@@ -0,0 +1,59 @@
+package edu.kh.admin.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kh.admin.main.model.dto.ExportFormat;
+
+class ExportWriterTest {
+
+	@Test
+	void csvQuotesSpecialCharacters() throws IOException {
+		String csv = csv(new Object[] { "a,b", "say \"hi\"", "line\nbreak", null, 7 });
+
+		assertThat(csv).isEqualTo("\uFEFFc1,c2,c3,c4,c5\r\n\"a,b\",\"say \"\"hi\"\"\",\"line\nbreak\",,7\r\n");
+	}
+
+	@Test
+	void csvEscapesFormulaCells() throws IOException {
+		String csv = csv(new Object[] { "=HYPERLINK(\"http://x\")", "+1", "-2+3", "@SUM(A1)", "\tcmd" });
+
+		assertThat(csv).endsWith(
+				"\"'=HYPERLINK(\"\"http://x\"\")\",\"'+1\",\"'-2+3\",\"'@SUM(A1)\",\"'\tcmd\"\r\n");
+	}
+
+	@Test
+	void csvLeavesNumbersAndPlainTextAlone() throws IOException {
+		String csv = csv(new Object[] { -5, "user@kh.or.kr", "제목", "", 1.5 });
+
+		assertThat(csv).endsWith("-5,user@kh.or.kr,제목,,1.5\r\n");
+	}
+
+	@Test
+	void ndjsonIsNotEscaped() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		try (ExportWriter<Object[]> writer = new ExportWriter<>(ExportFormat.NDJSON,
+				new String[] { "title" }, row -> row, out)) {
+			writer.write(new Object[] { "=1+1" });
+		}
+
+		assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("{\"title\":\"=1+1\"}\n");
+	}
+
+	private static String csv(Object[] row) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		try (ExportWriter<Object[]> writer = new ExportWriter<>(ExportFormat.CSV,
+				new String[] { "c1", "c2", "c3", "c4", "c5" }, r -> r, out)) {
+			writer.write(row);
+		}
+
+		return out.toString(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,38 @@
+package edu.kh.admin.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LoginRateLimiterTest {
+
+	@Test
+	void retryAfterIsRoundedUpToSeconds() {
+		// 주소별 1회 / 60초
+		LoginRateLimiter limiter = new LoginRateLimiter(new SimpleMeterRegistry(), true, 1, 60_000, 5, 300_000, 100);
+
+		assertThat(limiter.check("10.0.0.1", null)).isZero();
+		assertThat(limiter.check("10.0.0.1", null)).isEqualTo(60L);
+		assertThat(limiter.check("10.0.0.2", null)).isZero();
+	}
+
+	@Test
+	void emailIsNormalizedBeforeLimiting() {
+		// 이메일별 1회 / 300초
+		LoginRateLimiter limiter = new LoginRateLimiter(new SimpleMeterRegistry(), true, 100, 60_000, 1, 300_000, 100);
+
+		assertThat(limiter.check("10.0.0.1", "Admin@KH.or.kr")).isZero();
+		assertThat(limiter.check("10.0.0.2", " admin@kh.or.kr ")).isEqualTo(300L);
+	}
+
+	@Test
+	void disabledLimiterAllowsEverything() {
+		LoginRateLimiter limiter = new LoginRateLimiter(new SimpleMeterRegistry(), false, 1, 60_000, 1, 300_000, 100);
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(limiter.check("10.0.0.1", "admin@kh.or.kr")).isZero();
+		}
+	}
+}
@@ -0,0 +1,154 @@
+package edu.kh.admin.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class MpscRingBufferTest {
+
+	@Test
+	void capacityRoundsUpToPowerOfTwo() {
+		assertThat(new MpscRingBuffer<String>(2).capacity()).isEqualTo(2);
+		assertThat(new MpscRingBuffer<String>(5).capacity()).isEqualTo(8);
+		assertThat(new MpscRingBuffer<String>(8).capacity()).isEqualTo(8);
+
+		assertThatThrownBy(() -> new MpscRingBuffer<String>(1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new MpscRingBuffer<String>(4).offer(null)).isInstanceOf(NullPointerException.class);
+	}
+
+	@Test
+	void fullAndEmptyBoundaries() {
+		MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+
+		assertThat(buffer.poll()).isNull();
+		assertThat(buffer.size()).isZero();
+
+		for (int i = 0; i < 4; i++) {
+			assertThat(buffer.offer(i)).isTrue();
+		}
+		assertThat(buffer.offer(4)).isFalse();
+		assertThat(buffer.size()).isEqualTo(4);
+
+		// 하나 꺼내면 한 칸만 다시 사용 가능
+		assertThat(buffer.poll()).isEqualTo(0);
+		assertThat(buffer.offer(4)).isTrue();
+		assertThat(buffer.offer(5)).isFalse();
+
+		for (int i = 1; i <= 4; i++) {
+			assertThat(buffer.poll()).isEqualTo(i);
+		}
+		assertThat(buffer.poll()).isNull();
+		assertThat(buffer.size()).isZero();
+	}
+
+	@Test
+	void wrapsAroundManyTimesInOrder() {
+		MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+		int next = 0;
+
+		// 넣고 꺼내는 수를 엇갈리게 해서 여러 바퀴 돌림
+		for (int round = 0; round < 1_000; round++) {
+			int offered = 1 + round % 4;
+			for (int i = 0; i < offered; i++) {
+				assertThat(buffer.offer(round * 10 + i)).isTrue();
+			}
+			for (int i = 0; i < offered; i++) {
+				assertThat(buffer.poll()).isEqualTo(round * 10 + i);
+				next++;
+			}
+		}
+
+		assertThat(next).isEqualTo(2_500);
+		assertThat(buffer.poll()).isNull();
+	}
+
+	@Test
+	void drainToRespectsLimit() {
+		MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(8);
+		for (int i = 0; i < 5; i++) {
+			buffer.offer(i);
+		}
+
+		List<Integer> target = new ArrayList<>();
+		assertThat(buffer.drainTo(target, 3)).isEqualTo(3);
+		assertThat(target).containsExactly(0, 1, 2);
+
+		assertThat(buffer.drainTo(target, 10)).isEqualTo(2);
+		assertThat(target).containsExactly(0, 1, 2, 3, 4);
+
+		assertThat(buffer.drainTo(target, 10)).isZero();
+		assertThat(buffer.drainTo(target, 0)).isZero();
+	}
+
+	@Test
+	void manyProducersOneConsumerLoseNothing() throws Exception {
+		int producers = 4;
+		int perProducer = 20_000;
+		MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(64);
+		ExecutorService executor = Executors.newFixedThreadPool(producers);
+		CountDownLatch start = new CountDownLatch(1);
+
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int p = 0; p < producers; p++) {
+				int base = p * perProducer;
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < perProducer; i++) {
+						// 가득 차면 소비자가 비울 때까지 다시 시도
+						while (!buffer.offer(base + i)) Thread.yield();
+					}
+					return null;
+				}));
+			}
+
+			start.countDown();
+
+			BitSet seen = new BitSet(producers * perProducer);
+			int[] lastByProducer = new int[producers];
+			Arrays.fill(lastByProducer, -1);
+			List<Integer> batch = new ArrayList<>();
+			int received = 0;
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+
+			while (received < producers * perProducer) {
+				if (System.nanoTime() > deadline) throw new AssertionError("수신 대기 시간 초과 : " + received);
+
+				batch.clear();
+				if (buffer.drainTo(batch, 16) == 0) Thread.yield();
+
+				for (int value : batch) {
+					assertThat(seen.get(value)).isFalse(); // 중복 없음
+					seen.set(value);
+
+					// 한 생산자의 값은 넣은 순서대로 꺼내짐
+					int producer = value / perProducer;
+					assertThat(value).isGreaterThan(lastByProducer[producer]);
+					lastByProducer[producer] = value;
+				}
+				received += batch.size();
+			}
+
+			for (Future<?> future : futures) {
+				future.get(5, TimeUnit.SECONDS);
+			}
+
+			assertThat(seen.cardinality()).isEqualTo(producers * perProducer);
+			assertThat(buffer.poll()).isNull();
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
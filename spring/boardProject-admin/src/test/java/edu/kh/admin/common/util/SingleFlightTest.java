@@ -0,0 +1,140 @@
+package edu.kh.admin.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final SingleFlight<String, String> singleFlight = new SingleFlight<>("test", registry);
+	private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void concurrentCallsShareOneExecution() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+
+		Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+			calls.incrementAndGet();
+			await(release);
+			return "result";
+		}));
+		awaitCount("leader", 1);
+
+		Future<String> follower = executor.submit(() -> singleFlight.execute("key", () -> {
+			calls.incrementAndGet();
+			return "other";
+		}));
+		awaitCount("follower", 1);
+
+		release.countDown();
+
+		assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+		assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+		assertThat(calls.get()).isEqualTo(1);
+		assertThat(inFlight()).isZero();
+	}
+
+	@Test
+	void followerReceivesLeaderException() throws Exception {
+		IllegalStateException failure = new IllegalStateException("fail");
+		CountDownLatch release = new CountDownLatch(1);
+
+		Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+			await(release);
+			throw failure;
+		}));
+		awaitCount("leader", 1);
+
+		Future<String> follower = executor.submit(() -> singleFlight.execute("key", () -> "other"));
+		awaitCount("follower", 1);
+
+		release.countDown();
+
+		// CompletionException 으로 감싸지 않고 leader 의 예외 그대로 전달
+		assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).cause().isSameAs(failure);
+		assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).cause().isSameAs(failure);
+		assertThat(inFlight()).isZero();
+	}
+
+	@Test
+	void completedCallIsNotCached() {
+		AtomicInteger calls = new AtomicInteger();
+
+		assertThat(singleFlight.execute("key", () -> "first-" + calls.incrementAndGet())).isEqualTo("first-1");
+		assertThat(singleFlight.execute("key", () -> "first-" + calls.incrementAndGet())).isEqualTo("first-2");
+
+		// 실패한 작업도 남기지 않음
+		assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+			throw new IllegalArgumentException();
+		})).isInstanceOf(IllegalArgumentException.class);
+		assertThat(singleFlight.execute("key", () -> "after-failure")).isEqualTo("after-failure");
+
+		assertThat(count("leader")).isEqualTo(4.0);
+		assertThat(count("follower")).isZero();
+		assertThat(inFlight()).isZero();
+	}
+
+	@Test
+	void differentKeysRunSeparately() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+
+		Future<String> first = executor.submit(() -> singleFlight.execute("a", () -> {
+			await(release);
+			return "a";
+		}));
+		awaitCount("leader", 1);
+
+		// 다른 키는 실행 중인 작업을 기다리지 않음
+		assertThat(singleFlight.execute("b", () -> "b")).isEqualTo("b");
+
+		release.countDown();
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+		assertThat(count("follower")).isZero();
+	}
+
+	// ------------------------------------------------------------------
+
+	private double count(String role) {
+		return registry.get("singleflight.calls").tag("role", role).counter().count();
+	}
+
+	private double inFlight() {
+		return registry.get("singleflight.in-flight").gauge().value();
+	}
+
+	private void awaitCount(String role, double expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+		while (count(role) < expected) {
+			if (System.nanoTime() > deadline) throw new AssertionError(role + " 호출 대기 시간 초과");
+			Thread.sleep(1);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			if (!latch.await(5, TimeUnit.SECONDS)) throw new IllegalStateException("latch 대기 시간 초과");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,143 @@
+package edu.kh.admin.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TokenBucketLimiterTest {
+
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final AtomicLong now = new AtomicLong(1_000 * SECOND);
+
+	@Test
+	void allowsBurstOfCapacityThenOnePerInterval() {
+		// 3개 연속 허용, 이후 1초마다 1개
+		TokenBucketLimiter limiter = limiter(3, 3_000, 100);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(limiter.tryAcquire("key")).isZero();
+		}
+
+		// 다음 토큰까지 정확히 1초
+		assertThat(limiter.tryAcquire("key")).isEqualTo(SECOND);
+
+		now.addAndGet(SECOND / 2);
+		assertThat(limiter.tryAcquire("key")).isEqualTo(SECOND / 2);
+
+		now.addAndGet(SECOND / 2);
+		assertThat(limiter.tryAcquire("key")).isZero();
+		assertThat(limiter.tryAcquire("key")).isEqualTo(SECOND);
+
+		assertThat(count("auth.login.throttle", "result", "allowed")).isEqualTo(4.0);
+		assertThat(count("auth.login.throttle", "result", "rejected")).isEqualTo(3.0);
+	}
+
+	@Test
+	void refillsUpToCapacityOnly() {
+		TokenBucketLimiter limiter = limiter(3, 3_000, 100);
+
+		assertThat(limiter.tryAcquire("key")).isZero();
+
+		// 오래 쉬어도 capacity 개까지만 연속 허용
+		now.addAndGet(60 * SECOND);
+		for (int i = 0; i < 3; i++) {
+			assertThat(limiter.tryAcquire("key")).isZero();
+		}
+		assertThat(limiter.tryAcquire("key")).isEqualTo(SECOND);
+	}
+
+	@Test
+	void keysHaveSeparateBuckets() {
+		TokenBucketLimiter limiter = limiter(1, 1_000, 100);
+
+		assertThat(limiter.tryAcquire("a")).isZero();
+		assertThat(limiter.tryAcquire("a")).isPositive();
+		assertThat(limiter.tryAcquire("b")).isZero();
+		assertThat(limiter.size()).isEqualTo(2);
+	}
+
+	@Test
+	void evictsOnlyFullyRefilledBuckets() {
+		TokenBucketLimiter limiter = limiter(3, 3_000, 100);
+
+		limiter.tryAcquire("a");
+		limiter.tryAcquire("b");
+		limiter.tryAcquire("b");
+
+		assertThat(limiter.evictIdle()).isZero();
+
+		// a 는 1초 후 가득 참, b 는 2초 후
+		now.addAndGet(SECOND);
+		assertThat(limiter.evictIdle()).isEqualTo(1);
+		assertThat(limiter.size()).isEqualTo(1);
+
+		now.addAndGet(SECOND);
+		assertThat(limiter.evictIdle()).isEqualTo(1);
+		assertThat(limiter.size()).isZero();
+
+		// 제거 후 다시 요청하면 가득 찬 새 버킷
+		for (int i = 0; i < 3; i++) {
+			assertThat(limiter.tryAcquire("b")).isZero();
+		}
+		assertThat(count("auth.login.throttle.evicted", null, null)).isEqualTo(2.0);
+	}
+
+	@Test
+	void overflowKeysShareStripedBucketsInsteadOfPassing() {
+		TokenBucketLimiter limiter = limiter(2, 2_000, 1);
+
+		assertThat(limiter.tryAcquire("tracked")).isZero();
+
+		// 키 수 제한 초과 -> 추적하지 않지만 공용 버킷으로 제한됨
+		String untracked = "untracked";
+		assertThat(limiter.tryAcquire(untracked)).isZero();
+		assertThat(limiter.tryAcquire(untracked)).isZero();
+		assertThat(limiter.tryAcquire(untracked)).isEqualTo(SECOND);
+		assertThat(limiter.size()).isEqualTo(1);
+
+		// 다른 공용 버킷을 사용하는 키는 영향 없음
+		String other = keyInOtherStripe(untracked);
+		assertThat(limiter.tryAcquire(other)).isZero();
+
+		assertThat(count("auth.login.throttle.overflow", null, null)).isEqualTo(4.0);
+	}
+
+	@Test
+	void rejectsInvalidSettings() {
+		assertThatThrownBy(() -> limiter(0, 1_000, 100)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> limiter(1, 0, 100)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	// ------------------------------------------------------------------
+
+	private TokenBucketLimiter limiter(int capacity, long refillPeriodMillis, int maxKeys) {
+		return new TokenBucketLimiter("test", capacity, refillPeriodMillis, maxKeys, registry, now::get);
+	}
+
+	private double count(String name, String tagKey, String tagValue) {
+		return tagKey == null
+				? registry.get(name).counter().count()
+				: registry.get(name).tag(tagKey, tagValue).counter().count();
+	}
+
+	// TokenBucketLimiter.bucket 과 같은 계산으로 다른 공용 버킷을 사용하는 키 찾기
+	private static String keyInOtherStripe(String key) {
+		for (int i = 0; ; i++) {
+			String candidate = "other-" + i;
+			if (stripe(candidate) != stripe(key)) return candidate;
+		}
+	}
+
+	private static int stripe(String key) {
+		int h = key.hashCode();
+		return (h ^ (h >>> 16)) & 255;
+	}
+}
@@ -0,0 +1,182 @@
+package edu.kh.admin.main.model.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import edu.kh.admin.common.util.AuditLogger;
+import edu.kh.admin.common.util.DataVersions;
+import edu.kh.admin.common.util.PasswordHasher;
+import edu.kh.admin.main.model.dto.CursorPage;
+import edu.kh.admin.main.model.dto.DeletedBoard;
+import edu.kh.admin.main.model.dto.WithdrawnMember;
+import edu.kh.admin.main.model.mapper.AdminMapper;
+
+/**
+ * 키셋 페이지네이션 검증 (pageSize + 1 건 조회 -> 다음 페이지 여부, next 커서)
+ * - 매퍼는 MEMBER_NO 역순 키셋 조회(cursor 미만, limit 건)를 메모리 목록으로 대체
+ */
+class AdminServiceImplPageTest {
+
+	private final AdminMapper mapper = mock(AdminMapper.class);
+	private final ReferenceDataService referenceData = mock(ReferenceDataService.class);
+
+	private final List<Integer> withdrawn = new ArrayList<>(); // 탈퇴 회원 번호 (역순)
+	private final List<DeletedBoard> deletedBoards = new ArrayList<>(); // 삭제 게시글 (번호 역순)
+	private final List<Map<String, Object>> params = new ArrayList<>(); // 매퍼에 전달된 파라미터
+
+	private AdminServiceImpl service;
+
+	@BeforeEach
+	void setUp() {
+		service = new AdminServiceImpl(mapper, mock(PasswordHasher.class), mock(StatisticsService.class),
+				referenceData, mock(AdminDirectoryService.class), mock(DataVersions.class),
+				mock(AuditLogger.class), mock(PlatformTransactionManager.class));
+
+		when(mapper.selectWithdrawnMemberList(anyMap())).thenAnswer(invocation -> {
+			Map<String, Object> paramMap = invocation.getArgument(0);
+			params.add(new HashMap<>(paramMap));
+
+			Integer cursor = (Integer) paramMap.get("cursor");
+			int limit = (Integer) paramMap.get("limit");
+
+			// MyBatis 처럼 변경 가능한 목록 반환 (toPage 에서 확인용 1건 제거)
+			return new ArrayList<>(withdrawn.stream()
+					.filter(no -> cursor == null || no < cursor)
+					.limit(limit)
+					.map(no -> new WithdrawnMember(no, "user" + no + "@kh.or.kr", "회원" + no))
+					.toList());
+		});
+
+		when(mapper.selectDeleteBoardList(anyMap())).thenAnswer(invocation -> {
+			Map<String, Object> paramMap = invocation.getArgument(0);
+			params.add(new HashMap<>(paramMap));
+
+			Integer cursor = (Integer) paramMap.get("cursor");
+			int limit = (Integer) paramMap.get("limit");
+
+			return new ArrayList<>(deletedBoards.stream()
+					.filter(board -> cursor == null || board.boardNo() < cursor)
+					.limit(limit)
+					.toList());
+		});
+
+		when(referenceData.withNames(ArgumentMatchers.<DeletedBoard>anyList())).thenAnswer(invocation -> {
+			List<DeletedBoard> rows = invocation.getArgument(0);
+			return rows.stream().map(board -> board.withNames("게시판", "닉네임")).toList();
+		});
+	}
+
+	@Test
+	void fetchesOneExtraRowToFindNextPage() {
+		withdrawn.addAll(List.of(50, 40, 30, 20, 10));
+
+		CursorPage<WithdrawnMember> page = service.selectWithdrawnMemberList(null, 2);
+
+		assertThat(memberNos(page)).containsExactly(50, 40);
+		assertThat(page.getNext()).isEqualTo(40);
+		assertThat(params.get(0).get("limit")).isEqualTo(3);
+		assertThat(params.get(0).get("cursor")).isNull();
+	}
+
+	@Test
+	void followingNextVisitsEveryRowOnce() {
+		withdrawn.addAll(List.of(50, 40, 30, 20, 10));
+
+		List<Integer> visited = new ArrayList<>();
+		List<Integer> pageSizes = new ArrayList<>();
+		Integer cursor = null;
+
+		do {
+			CursorPage<WithdrawnMember> page = service.selectWithdrawnMemberList(cursor, 2);
+			visited.addAll(memberNos(page));
+			pageSizes.add(page.getList().size());
+			cursor = page.getNext();
+		} while (cursor != null);
+
+		// 마지막 페이지(1건)는 pageSize 보다 적으므로 next 없음
+		assertThat(visited).containsExactly(50, 40, 30, 20, 10);
+		assertThat(pageSizes).containsExactly(2, 2, 1);
+	}
+
+	@Test
+	void exactlyFullLastPageHasNoNext() {
+		withdrawn.addAll(List.of(40, 30, 20, 10));
+
+		CursorPage<WithdrawnMember> first = service.selectWithdrawnMemberList(null, 2);
+		assertThat(first.getNext()).isEqualTo(30);
+
+		// 남은 행이 정확히 pageSize 건 -> 1건 더 조회되지 않으므로 빈 페이지를 만들지 않고 종료
+		CursorPage<WithdrawnMember> last = service.selectWithdrawnMemberList(first.getNext(), 2);
+
+		assertThat(memberNos(last)).containsExactly(20, 10);
+		assertThat(last.getNext()).isNull();
+		assertThat(params.get(1).get("cursor")).isEqualTo(30);
+	}
+
+	@Test
+	void emptyPageHasNoNext() {
+		CursorPage<WithdrawnMember> empty = service.selectWithdrawnMemberList(null, 2);
+
+		assertThat(empty.getList()).isEmpty();
+		assertThat(empty.getNext()).isNull();
+
+		// 마지막 행 이후의 cursor
+		withdrawn.addAll(List.of(20, 10));
+		CursorPage<WithdrawnMember> afterLast = service.selectWithdrawnMemberList(10, 2);
+
+		assertThat(afterLast.getList()).isEmpty();
+		assertThat(afterLast.getNext()).isNull();
+	}
+
+	@Test
+	void pageSizeIsClamped() {
+		service.selectWithdrawnMemberList(null, 0);
+		service.selectWithdrawnMemberList(null, 1_000);
+
+		// 기본 20, 최대 100 (+1 건 확인용)
+		assertThat(params.get(0).get("limit")).isEqualTo(21);
+		assertThat(params.get(1).get("limit")).isEqualTo(101);
+	}
+
+	@Test
+	void deletedBoardPageFillsNamesAfterTrimming() {
+		for (int no = 30; no >= 10; no -= 10) {
+			deletedBoards.add(new DeletedBoard(no, "제목" + no, 1, "2026-01-01", 7));
+		}
+
+		CursorPage<DeletedBoard> page = service.selectDeleteBoardList(null, 2, 1, null, LocalDate.of(2026, 1, 31));
+
+		assertThat(page.getList().stream().map(DeletedBoard::boardNo).toList()).containsExactly(30, 20);
+		assertThat(page.getList().get(0).boardName()).isEqualTo("게시판");
+		assertThat(page.getNext()).isEqualTo(20);
+
+		// 종료일 당일 포함
+		assertThat(params.get(0).get("endDate")).isEqualTo(LocalDate.of(2026, 2, 1));
+		assertThat(params.get(0).get("limit")).isEqualTo(3);
+
+		CursorPage<DeletedBoard> last = service.selectDeleteBoardList(page.getNext(), 2, 1, null, null);
+
+		assertThat(last.getList().stream().map(DeletedBoard::boardNo).toList()).containsExactly(10);
+		assertThat(last.getNext()).isNull();
+		assertThat(params.get(1).get("endDate")).isNull();
+	}
+
+	// ------------------------------------------------------------------
+
+	private static List<Integer> memberNos(CursorPage<WithdrawnMember> page) {
+		return page.getList().stream().map(WithdrawnMember::memberNo).toList();
+	}
+}
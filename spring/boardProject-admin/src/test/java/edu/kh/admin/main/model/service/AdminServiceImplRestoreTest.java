@@ -0,0 +1,266 @@
+package edu.kh.admin.main.model.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import edu.kh.admin.common.util.AuditLogger;
+import edu.kh.admin.common.util.DataVersions;
+import edu.kh.admin.common.util.PasswordHasher;
+import edu.kh.admin.main.model.dto.Board;
+import edu.kh.admin.main.model.dto.BulkRestoreRequest;
+import edu.kh.admin.main.model.dto.BulkRestoreResult;
+import edu.kh.admin.main.model.dto.Member;
+import edu.kh.admin.main.model.dto.RestoreResult;
+import edu.kh.admin.main.model.mapper.AdminMapper;
+
+/**
+ * 일괄 복구 chunk 반복 검증 (매퍼는 메모리 테이블로 대체)
+ * - chunk 크기 2 로 여러 chunk 에 걸친 복구, chunk 마다 별도 트랜잭션 커밋 확인
+ * - 복구 건수 불일치는 FOR UPDATE 잠금 때문에 실제 DB 로 재현할 수 없으므로 여기서만 검증
+ *   (실제 SQL 은 AdminServiceRestoreH2Test 에서 부하 테스트 스키마로 검증)
+ */
+class AdminServiceImplRestoreTest {
+
+	private static final int CHUNK_SIZE = 2;
+
+	private final AdminMapper mapper = mock(AdminMapper.class);
+	private final ChunkTransactions transactions = new ChunkTransactions();
+
+	// 번호 -> 삭제 여부 ('Y' / 'N')
+	private final Map<Integer, String> members = new TreeMap<>();
+	private final Map<Integer, String> boards = new TreeMap<>();
+
+	private final List<Integer> boardCursors = new ArrayList<>(); // selectDeletedBoardNos 에 전달된 cursor
+	private int memberUpdates; // restoreMembers 호출 수
+
+	private AdminServiceImpl service;
+
+	@BeforeEach
+	void setUp() {
+		service = new AdminServiceImpl(mapper, mock(PasswordHasher.class), mock(StatisticsService.class),
+				mock(ReferenceDataService.class), mock(AdminDirectoryService.class), mock(DataVersions.class),
+				mock(AuditLogger.class), transactions);
+		ReflectionTestUtils.setField(service, "bulkChunkSize", CHUNK_SIZE);
+
+		when(mapper.selectMemberDelFl(anyList())).thenAnswer(invocation -> {
+			List<Member> rows = new ArrayList<>();
+			for (int no : invocation.<List<Integer>>getArgument(0)) {
+				if (members.containsKey(no)) rows.add(Member.builder().memberNo(no).memberDelFl(members.get(no)).build());
+			}
+			return rows;
+		});
+		when(mapper.restoreMembers(anyList())).thenAnswer(invocation -> {
+			memberUpdates++;
+			return restore(members, invocation.getArgument(0));
+		});
+
+		when(mapper.selectBoardDelFl(anyList())).thenAnswer(invocation -> {
+			List<Board> rows = new ArrayList<>();
+			for (int no : invocation.<List<Integer>>getArgument(0)) {
+				if (boards.containsKey(no)) rows.add(Board.builder().boardNo(no).boardDelFl(boards.get(no)).build());
+			}
+			return rows;
+		});
+		when(mapper.restoreBoards(anyList())).thenAnswer(invocation -> restore(boards, invocation.getArgument(0)));
+
+		// 조건 복구 : cursor 보다 큰 삭제 게시글 번호를 limit 개까지 (조건은 모든 게시글이 만족한다고 가정)
+		when(mapper.selectDeletedBoardNos(anyMap())).thenAnswer(invocation -> {
+			Map<String, Object> paramMap = invocation.getArgument(0);
+			Integer cursor = (Integer) paramMap.get("cursor");
+			int limit = (Integer) paramMap.get("limit");
+			boardCursors.add(cursor);
+
+			return boards.entrySet().stream()
+					.filter(e -> "Y".equals(e.getValue()))
+					.map(Map.Entry::getKey)
+					.filter(no -> cursor == null || no > cursor)
+					.limit(limit)
+					.toList();
+		});
+	}
+
+	@Test
+	void restoreMembersReportsEveryIdAcrossChunks() {
+		members.put(1, "Y");
+		members.put(2, "N"); // 이미 복구됨
+		members.put(3, "Y");
+		members.put(5, "Y");
+
+		// 중복, null 은 제거 -> 1, 2, 3, 4, 5 (chunk 3개)
+		BulkRestoreResult result = service.restoreMembers(Arrays.asList(1, 2, 2, null, 3, 4, 5));
+
+		assertThat(outcomes(result)).containsExactly(
+				"1=RESTORED", "2=NOT_DELETED", "3=RESTORED", "4=NOT_FOUND", "5=RESTORED");
+		assertThat(result.getRestored()).isEqualTo(3);
+		assertThat(result.getNotDeleted()).isEqualTo(1);
+		assertThat(result.getNotFound()).isEqualTo(1);
+
+		assertThat(members).containsEntry(1, "N").containsEntry(3, "N").containsEntry(5, "N");
+		assertThat(transactions.committed).isEqualTo(3);
+		assertThat(transactions.rolledBack).isZero();
+	}
+
+	@Test
+	void alreadyRestoredIdsAreNotUpdatedAgain() {
+		members.put(1, "N");
+		members.put(2, "N");
+
+		BulkRestoreResult result = service.restoreMembers(List.of(1, 2));
+
+		assertThat(outcomes(result)).containsExactly("1=NOT_DELETED", "2=NOT_DELETED");
+		assertThat(result.getRestored()).isZero();
+
+		// 복구 대상이 없으면 UPDATE 자체를 실행하지 않음
+		assertThat(memberUpdates).isZero();
+		assertThat(transactions.committed).isEqualTo(1);
+	}
+
+	@Test
+	void mismatchRollsBackOnlyTheFailingChunk() {
+		members.put(1, "Y");
+		members.put(2, "Y");
+		members.put(3, "Y");
+		members.put(4, "Y");
+		members.put(5, "Y");
+
+		// 두 번째 chunk 에서 잠금 밖 변경으로 1건만 복구된 상황
+		doAnswer(invocation -> {
+			List<Integer> targets = invocation.getArgument(0);
+			return ++memberUpdates == 2 ? targets.size() - 1 : restore(members, targets);
+		}).when(mapper).restoreMembers(anyList());
+
+		assertThatThrownBy(() -> service.restoreMembers(List.of(1, 2, 3, 4, 5)))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("대상 2 건, 복구 1 건");
+
+		// 첫 chunk 는 커밋되어 유지, 실패한 chunk 는 롤백, 이후 chunk 는 실행되지 않음
+		assertThat(transactions.committed).isEqualTo(1);
+		assertThat(transactions.rolledBack).isEqualTo(1);
+		assertThat(memberUpdates).isEqualTo(2);
+		assertThat(members).containsEntry(1, "N").containsEntry(2, "N").containsEntry(5, "Y");
+	}
+
+	@Test
+	void restoreBoardsByCriteriaFollowsKeysetAcrossChunks() {
+		boards.put(10, "Y");
+		boards.put(11, "N");
+		boards.put(12, "Y");
+		boards.put(13, "Y");
+		boards.put(15, "Y");
+		boards.put(17, "Y");
+
+		BulkRestoreResult result = service.restoreBoards(criteria());
+
+		assertThat(outcomes(result)).containsExactly(
+				"10=RESTORED", "12=RESTORED", "13=RESTORED", "15=RESTORED", "17=RESTORED");
+		assertThat(boards).doesNotContainValue("Y");
+
+		// 마지막 chunk 가 chunk 크기보다 작으므로 더 조회하지 않음
+		assertThat(boardCursors).containsExactly(null, 12, 15);
+		assertThat(transactions.committed).isEqualTo(3);
+	}
+
+	@Test
+	void restoreBoardsByCriteriaStopsAfterEmptyChunk() {
+		boards.put(10, "Y");
+		boards.put(12, "Y");
+		boards.put(13, "Y");
+		boards.put(15, "Y");
+
+		BulkRestoreResult result = service.restoreBoards(criteria());
+
+		// chunk 크기의 배수이면 빈 chunk 를 한 번 더 조회한 뒤 종료
+		assertThat(result.getRestored()).isEqualTo(4);
+		assertThat(boardCursors).containsExactly(null, 12, 15);
+		assertThat(transactions.committed).isEqualTo(3);
+	}
+
+	@Test
+	void restoreBoardsByCriteriaWithNothingToRestore() {
+		boards.put(10, "N");
+
+		BulkRestoreResult result = service.restoreBoards(criteria());
+
+		assertThat(result.getResults()).isEmpty();
+		assertThat(boardCursors).containsExactly((Integer) null);
+	}
+
+	@Test
+	void restoreBoardsWithoutIdsOrCriteriaIsRejected() {
+		assertThatThrownBy(() -> service.restoreBoards(new BulkRestoreRequest()))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(transactions.committed).isZero();
+	}
+
+	// ------------------------------------------------------------------
+
+	private static BulkRestoreRequest criteria() {
+		BulkRestoreRequest request = new BulkRestoreRequest();
+		request.setBoardCode(1);
+		return request;
+	}
+
+	// 'Y' 인 번호만 'N' 으로 변경 (UPDATE ... AND DEL_FL = 'Y')
+	private static int restore(Map<Integer, String> table, List<Integer> nos) {
+		int updated = 0;
+		for (int no : nos) {
+			if ("Y".equals(table.get(no))) {
+				table.put(no, "N");
+				updated++;
+			}
+		}
+		return updated;
+	}
+
+	private static List<String> outcomes(BulkRestoreResult result) {
+		List<String> outcomes = new ArrayList<>();
+		for (RestoreResult restoreResult : result.getResults()) {
+			outcomes.add(restoreResult.getId() + "=" + restoreResult.getOutcome());
+		}
+		return outcomes;
+	}
+
+	/**
+	 * chunk 트랜잭션 커밋/롤백 횟수 기록
+	 */
+	private static class ChunkTransactions implements PlatformTransactionManager {
+
+		int committed;
+		int rolledBack;
+
+		@Override
+		public TransactionStatus getTransaction(TransactionDefinition definition) {
+			assertThat(definition.getPropagationBehavior()).isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+			return new SimpleTransactionStatus();
+		}
+
+		@Override
+		public void commit(TransactionStatus status) {
+			committed++;
+		}
+
+		@Override
+		public void rollback(TransactionStatus status) {
+			rolledBack++;
+		}
+	}
+}
@@ -0,0 +1,172 @@
+package edu.kh.admin.main.model.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import edu.kh.admin.main.model.dto.BulkRestoreRequest;
+import edu.kh.admin.main.model.dto.BulkRestoreResult;
+import edu.kh.admin.main.model.dto.RestoreResult;
+
+/**
+ * 일괄 복구 chunk 반복을 실제 SQL(FOR UPDATE, 키셋 조회)로 검증
+ * - 부하 테스트와 같은 내장 H2 스키마/데이터 사용 (loadtest 프로파일)
+ * - 샘플 데이터(회원 1 ~ 20000, 게시글 1 ~ 100000)와 겹치지 않도록 900001 번부터 사용
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.NONE, properties = "restore.bulk.chunk-size=2")
+@ActiveProfiles("loadtest")
+class AdminServiceRestoreH2Test {
+
+	private static final int BASE = 900_000;
+
+	@Autowired
+	private AdminService adminService;
+
+	@Autowired
+	@Qualifier("writeDataSource")
+	private DataSource dataSource;
+
+	private JdbcTemplate jdbc;
+
+	@BeforeEach
+	void setUp() {
+		jdbc = new JdbcTemplate(dataSource);
+		cleanUp();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		jdbc.update("DELETE FROM \"BOARD\" WHERE BOARD_NO > ?", BASE);
+		jdbc.update("DELETE FROM \"MEMBER\" WHERE MEMBER_NO > ?", BASE);
+	}
+
+	@Test
+	void restoreMembersAcrossChunks() {
+		insertMember(1, "Y");
+		insertMember(2, "N");
+		insertMember(3, "Y");
+		insertMember(5, "Y");
+
+		// chunk 3개 : (1, 2) (3, 4) (5)
+		BulkRestoreResult result = adminService.restoreMembers(List.of(BASE + 1, BASE + 2, BASE + 3, BASE + 4, BASE + 5));
+
+		assertThat(outcomes(result)).containsExactly(
+				"1=RESTORED", "2=NOT_DELETED", "3=RESTORED", "4=NOT_FOUND", "5=RESTORED");
+		assertThat(memberDelFl(1)).isEqualTo("N");
+		assertThat(memberDelFl(3)).isEqualTo("N");
+		assertThat(memberDelFl(5)).isEqualTo("N");
+
+		// 이미 복구된 번호를 다시 요청하면 UPDATE 없이 NOT_DELETED
+		BulkRestoreResult again = adminService.restoreMembers(List.of(BASE + 1, BASE + 3, BASE + 5));
+
+		assertThat(again.getNotDeleted()).isEqualTo(3);
+		assertThat(again.getRestored()).isZero();
+	}
+
+	@Test
+	void restoreBoardsByIdsAcrossChunks() {
+		insertMember(1, "N");
+		insertBoard(1, 1, "Y");
+		insertBoard(2, 1, "N");
+		insertBoard(3, 1, "Y");
+
+		BulkRestoreRequest request = new BulkRestoreRequest();
+		request.setIds(List.of(BASE + 1, BASE + 2, BASE + 3, BASE + 4));
+
+		BulkRestoreResult result = adminService.restoreBoards(request);
+
+		assertThat(outcomes(result)).containsExactly(
+				"1=RESTORED", "2=NOT_DELETED", "3=RESTORED", "4=NOT_FOUND");
+		assertThat(boardDelFl(1)).isEqualTo("N");
+		assertThat(boardDelFl(3)).isEqualTo("N");
+	}
+
+	@Test
+	void restoreBoardsByCriteriaFollowsKeysetAcrossChunks() {
+		insertMember(1, "N");
+		insertMember(2, "N");
+
+		// 작성자 1 : 삭제 5건(chunk 3개) + 삭제되지 않은 1건, 작성자 2 : 삭제 1건 (조건 밖)
+		for (int no : new int[] {1, 2, 4, 5, 7}) {
+			insertBoard(no, 1, "Y");
+		}
+		insertBoard(3, 1, "N");
+		insertBoard(6, 2, "Y");
+
+		BulkRestoreRequest request = new BulkRestoreRequest();
+		request.setMemberNo(BASE + 1);
+
+		BulkRestoreResult result = adminService.restoreBoards(request);
+
+		assertThat(outcomes(result)).containsExactly(
+				"1=RESTORED", "2=RESTORED", "4=RESTORED", "5=RESTORED", "7=RESTORED");
+		assertThat(jdbc.queryForObject(
+				"SELECT COUNT(*) FROM \"BOARD\" WHERE MEMBER_NO = ? AND BOARD_DEL_FL = 'Y'", Integer.class, BASE + 1))
+				.isZero();
+		assertThat(boardDelFl(6)).isEqualTo("Y");
+
+		// 같은 조건으로 다시 요청하면 복구할 게시글 없음
+		assertThat(adminService.restoreBoards(request).getResults()).isEmpty();
+	}
+
+	@Test
+	void restoreBoardsByCriteriaWithExactlyFullChunks() {
+		insertMember(1, "N");
+		for (int no = 1; no <= 4; no++) {
+			insertBoard(no, 1, "Y");
+		}
+
+		BulkRestoreRequest request = new BulkRestoreRequest();
+		request.setMemberNo(BASE + 1);
+
+		// 마지막 chunk 가 가득 차면 빈 chunk 를 한 번 더 조회한 뒤 종료
+		BulkRestoreResult result = adminService.restoreBoards(request);
+
+		assertThat(result.getRestored()).isEqualTo(4);
+		assertThat(result.getResults()).hasSize(4);
+	}
+
+	// ------------------------------------------------------------------
+
+	private void insertMember(int no, String delFl) {
+		jdbc.update("INSERT INTO \"MEMBER\" (MEMBER_NO, MEMBER_EMAIL, MEMBER_PW, MEMBER_NICKNAME, MEMBER_DEL_FL) "
+				+ "VALUES (?, ?, 'not-a-login-account', ?, ?)",
+				BASE + no, "restore" + no + "@kh.or.kr", "복구" + no, delFl);
+	}
+
+	private void insertBoard(int no, int memberNo, String delFl) {
+		jdbc.update("INSERT INTO \"BOARD\" (BOARD_NO, BOARD_TITLE, BOARD_CONTENT, BOARD_DEL_FL, MEMBER_NO, BOARD_CODE) "
+				+ "VALUES (?, ?, ?, ?, ?, 1)",
+				BASE + no, "복구 테스트 " + no, "내용", delFl, BASE + memberNo);
+	}
+
+	private String memberDelFl(int no) {
+		return jdbc.queryForObject("SELECT MEMBER_DEL_FL FROM \"MEMBER\" WHERE MEMBER_NO = ?", String.class, BASE + no);
+	}
+
+	private String boardDelFl(int no) {
+		return jdbc.queryForObject("SELECT BOARD_DEL_FL FROM \"BOARD\" WHERE BOARD_NO = ?", String.class, BASE + no);
+	}
+
+	// BASE 를 뺀 번호로 표시
+	private static List<String> outcomes(BulkRestoreResult result) {
+		List<String> outcomes = new ArrayList<>();
+		for (RestoreResult restoreResult : result.getResults()) {
+			outcomes.add((restoreResult.getId() - BASE) + "=" + restoreResult.getOutcome());
+		}
+		return outcomes;
+	}
+}